@@ -21,6 +21,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
 
     private String getJwtFromCookie(HttpServletRequest request) {
         if (request.getCookies() == null) return null;
@@ -33,16 +34,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) 
             throws ServletException, IOException {
-        
+
+        GatewayIdentityVerifier.Identity identity = gatewayIdentityVerifier.verify(request);
+        if (identity != null) {
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                identity.userId(), null, Collections.singleton(new SimpleGrantedAuthority(identity.role()))
+            );
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String token = getJwtFromCookie(request);
         
         if(StringUtils.hasText(token)) {
-            String userId = tokenProvider.validateAndGetUserId(token);
-            String role = tokenProvider.getRoleFromToken(token); 
+            TokenProvider.TokenClaims claims = tokenProvider.parse(token);
             
-            if(userId != null && role != null) {
+            if(claims != null && claims.userId() != null && claims.role() != null) {
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    userId, null, Collections.singleton(new SimpleGrantedAuthority(role))
+                    claims.userId(), null, Collections.singleton(new SimpleGrantedAuthority(claims.role()))
                 );
                 SecurityContextHolder.getContext().setAuthentication(authentication); 
             }
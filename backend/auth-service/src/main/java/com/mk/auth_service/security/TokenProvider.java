@@ -2,7 +2,9 @@ package com.mk.auth_service.security;
 
 import com.mk.auth_service.entity.AuthUser;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -11,24 +13,30 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 
 /**
  * JWT 액세스 토큰 발급(30분) 및 검증.
  * 리프레시 토큰은 Redis에 저장되며 여기서는 UUID 발급만 담당하지 않음(Redis 키는 AuthService에서 관리).
+ * 서명 키와 JwtParser는 기동 시 한 번만 만들며, 둘 다 불변이라 모든 요청 스레드가 공유합니다.
+ * 검증 측은 parse()로 userId·role·만료를 한 번에 꺼냅니다.
  */
 @Slf4j
 @Service
 public class TokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final int accessExpiryMinutes;
 
-    @Value("${jwt.access-expiry-minutes:30}")
-    private int accessExpiryMinutes;
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    public TokenProvider(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.access-expiry-minutes:30}") int accessExpiryMinutes
+    ) {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.accessExpiryMinutes = accessExpiryMinutes;
     }
 
     /** 액세스 토큰 생성 — 만료 30분 (설정값 사용) */
@@ -41,7 +49,7 @@ public class TokenProvider {
                 .claim("roles", role)
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), io.jsonwebtoken.SignatureAlgorithm.HS512)
+                .signWith(signingKey, io.jsonwebtoken.SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -50,34 +58,41 @@ public class TokenProvider {
         return createAccessToken(authUser);
     }
 
-    public String validateAndGetUserId(String token) {
+    /** 검증된 액세스 토큰 클레임. expiresAt은 exp 클레임이 없으면 null */
+    public record TokenClaims(String userId, String role, Instant expiresAt) {
+    }
+
+    /** 서명·만료를 한 번 검증하고 클레임을 꺼냄. 유효하지 않으면 null */
+    public TokenClaims parse(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.getSubject();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            return new TokenClaims(
+                    claims.getSubject(),
+                    claims.get("roles", String.class),
+                    expiration != null ? expiration.toInstant() : null
+            );
         } catch (JwtException e) {
             log.warn("JWT validation failed: {}", e.getMessage());
             return null;
         }
     }
 
+    public String validateAndGetUserId(String token) {
+        TokenClaims claims = parse(token);
+        return claims != null ? claims.userId() : null;
+    }
+
     /** 만료 여부 포함 검증(세션 연장 시 grace 기간 허용). 만료 후 graceMillis 초과 시 null. */
     public String validateAndGetUserIdWithExpiry(String token, long graceMillis) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
             Date exp = claims.getExpiration();
             if (exp != null && exp.getTime() + graceMillis < System.currentTimeMillis()) {
                 return null;
             }
             return claims.getSubject();
-        } catch (io.jsonwebtoken.ExpiredJwtException e) {
+        } catch (ExpiredJwtException e) {
             Claims claims = e.getClaims();
             Date exp = claims.getExpiration();
             if (exp != null && exp.getTime() + graceMillis >= System.currentTimeMillis()) {
@@ -91,15 +106,7 @@ public class TokenProvider {
     }
 
     public String getRoleFromToken(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.get("roles", String.class);
-        } catch (JwtException e) {
-            return null;
-        }
+        TokenClaims claims = parse(token);
+        return claims != null ? claims.role() : null;
     }
 }
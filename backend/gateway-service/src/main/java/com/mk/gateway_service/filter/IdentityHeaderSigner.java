@@ -0,0 +1,59 @@
+package com.mk.gateway_service.filter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * 검증된 사용자 정보를 하위 서비스로 넘기는 내부 헤더 서명.
+ * 서명 대상은 "timestamp\nmethod\npath\nuserId\nrole" 이며 HmacSHA256 결과를 base64url(패딩 없음)로 X-User-Signature에 싣습니다.
+ * path는 인코딩된 원본 경로(쿼리 제외)로, 라우트가 경로를 바꾸지 않으므로 하위 서비스의 requestURI와 같습니다.
+ * 메서드·경로를 포함해 가로챈 헤더 묶음을 다른 엔드포인트에 재사용할 수 없게 합니다.
+ * 하위 서비스는 같은 비밀키로 MAC과 timestamp만 확인하고 JWT를 다시 파싱하지 않습니다.
+ * Mac은 스레드 안전하지 않으므로 초기화된 원본을 요청마다 clone 해서 씁니다.
+ */
+final class IdentityHeaderSigner {
+
+    static final String USER_ID = "X-User-Id";
+    static final String USER_ROLE = "X-User-Role";
+    static final String TIMESTAMP = "X-User-Timestamp";
+    static final String SIGNATURE = "X-User-Signature";
+    static final String[] ALL = {USER_ID, USER_ROLE, TIMESTAMP, SIGNATURE};
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final Mac prototype;
+
+    IdentityHeaderSigner(String secret) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(key);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("내부 헤더 서명 키 초기화 실패", e);
+        }
+    }
+
+    String sign(long timestamp, String method, String path, String userId, String role) {
+        String payload = timestamp + "\n" + method + "\n" + path + "\n" + userId + "\n" + role;
+        byte[] mac = newMac().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac);
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
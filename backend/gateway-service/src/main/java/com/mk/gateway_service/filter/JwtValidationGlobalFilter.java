@@ -1,14 +1,18 @@
 package com.mk.gateway_service.filter;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import javax.crypto.SecretKey;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
@@ -16,15 +20,22 @@ import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * Gateway 1차 JWT 검증: 서명 및 만료 확인.
  * 공개 경로(/auth/login, /auth/signup, /auth/send-code, /auth/verify-code, GET /api/posts 등)는 토큰 없이 통과.
  * 그 외 경로에서 Cookie(authToken) 또는 Authorization Bearer 가 있으면 검증; 실패 시 401.
+ * 공개 경로는 메서드까지 보는 PublicRouteMatcher 트라이로 판별합니다 (기본 규칙 + gateway.public-routes 추가 규칙).
+ * 서명 키·JwtParser는 생성 시 한 번만 만들어 재사용합니다 (불변이므로 이벤트 루프 스레드 간 공유 가능).
+ * 검증에 성공한 토큰은 만료 시각까지 VerifiedTokenCache에 보관하여, 같은 토큰의 반복 요청은 서명 검증과
+ * base64/JSON 파싱을 건너뜁니다 (gateway.jwt-cache.capacity, 기본 4096 슬롯).
+ * 검증된 사용자는 X-User-Id / X-User-Role / X-User-Timestamp / X-User-Signature(HMAC) 헤더로 하위 서비스에 전달하며,
+ * 클라이언트가 직접 보낸 같은 이름의 헤더는 항상 제거합니다. 공개 경로에서도 유효한 토큰이면 헤더를 붙입니다.
+ * 헤더 서명 키는 jwt.secret과 다른 gateway.identity.secret(필수)이며, 같으면 기동에 실패합니다.
  */
 @Slf4j
 @Component
@@ -33,60 +44,154 @@ public class JwtValidationGlobalFilter implements GlobalFilter, Ordered {
     private static final String AUTH_TOKEN_COOKIE = "authToken";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    /** 인증 없이 허용할 경로 패턴 (공개 API) */
-    private static final List<Pattern> PUBLIC_PATTERNS = List.of(
-        Pattern.compile("^/auth/(login|signup|send-code|verify-code|refresh|extend).*"),
-        Pattern.compile("^/auth/oauth2/.*"),
-        Pattern.compile("^/auth/login/oauth2/.*"),
-        Pattern.compile("^/api/posts$"),           // GET 목록
-        Pattern.compile("^/api/posts/\\d+$"),       // GET 상세
-        Pattern.compile("^/api/posts/category.*"),
-        Pattern.compile("^/api/posts/tag.*"),
-        Pattern.compile("^/api/posts/categories$"),
-        Pattern.compile("^/api/posts/tags$"),
-        Pattern.compile("^/api/posts/\\d+/comments$"), // GET 댓글 목록
-        Pattern.compile("^/api/posts/search.*"),       // GET 검색 (키워드)
-        Pattern.compile("^/api/search.*"),
-        Pattern.compile("^/chat.*"),
-        Pattern.compile("^/actuator/.*")
+    /** 인증 없이 허용할 경로 규칙 (공개 API). 형식은 PublicRouteMatcher 참고 */
+    private static final List<String> DEFAULT_PUBLIC_ROUTES = List.of(
+        "* /auth/login/**",                          // /auth/login/oauth2/** 포함
+        "* /auth/signup/**",
+        "* /auth/send-code/**",
+        "* /auth/verify-code/**",
+        "* /auth/refresh/**",
+        "* /auth/extend/**",
+        "* /auth/oauth2/**",
+        "GET|HEAD /api/posts",                       // 목록
+        "GET|HEAD /api/posts/{n}",                   // 상세
+        "GET|HEAD /api/posts/category/**",
+        "GET|HEAD /api/posts/tag/**",
+        "GET|HEAD /api/posts/categories",
+        "GET|HEAD /api/posts/tags",
+        "GET|HEAD /api/posts/{n}/comments",          // 댓글 목록
+        "GET|HEAD /api/posts/{n}/comments/stream",   // 댓글 스트리밍
+        "GET|HEAD /api/posts/search/**",             // 검색 (키워드)
+        "* /api/search/**",
+        "* /chat/**",
+        "* /actuator/**"
     );
 
-    @Value("${jwt.secret}")
-    private String secretString;
+    private final PublicRouteMatcher publicRoutes;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache tokenCache;
+    private final IdentityHeaderSigner identitySigner;
+
+    public JwtValidationGlobalFilter(
+        @Value("${jwt.secret}") String secretString,
+        @Value("${gateway.identity.secret}") String identitySecret,
+        @Value("${gateway.jwt-cache.capacity:4096}") int cacheCapacity,
+        @Value("${gateway.public-routes:}") List<String> extraPublicRoutes,
+        MeterRegistry meterRegistry
+    ) {
+        if (identitySecret.isBlank() || identitySecret.equals(secretString)) {
+            throw new IllegalStateException("gateway.identity.secret은 jwt.secret과 다른 값으로 설정해야 합니다.");
+        }
+        List<String> publicRouteRules = new ArrayList<>(DEFAULT_PUBLIC_ROUTES);
+        publicRouteRules.addAll(extraPublicRoutes);
+        this.publicRoutes = PublicRouteMatcher.compile(publicRouteRules);
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8)))
+            .build();
+        this.tokenCache = new VerifiedTokenCache(cacheCapacity);
+        this.identitySigner = new IdentityHeaderSigner(identitySecret);
+        FunctionCounter.builder("gateway.jwt_cache.requests", tokenCache, VerifiedTokenCache::hitCount).tag("result", "hit")
+            .description("검증 토큰 캐시 조회 (히트)").register(meterRegistry);
+        FunctionCounter.builder("gateway.jwt_cache.requests", tokenCache, VerifiedTokenCache::missCount).tag("result", "miss")
+            .description("검증 토큰 캐시 조회 (미스)").register(meterRegistry);
+        Gauge.builder("gateway.jwt_cache.hit_ratio", tokenCache, VerifiedTokenCache::hitRatio)
+            .description("검증 토큰 캐시 히트율 (기동 이후 누적)").register(meterRegistry);
+        Gauge.builder("gateway.jwt_cache.size", tokenCache, VerifiedTokenCache::size)
+            .description("검증 토큰 캐시 사용 슬롯 수").register(meterRegistry);
     }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         String path = exchange.getRequest().getPath().value();
         String method = exchange.getRequest().getMethod().name();
+        ServerWebExchange stripped = stripIdentityHeaders(exchange);
+        String token = resolveToken(stripped);
 
-        for (Pattern p : PUBLIC_PATTERNS) {
-            if (p.matcher(path).matches()) {
-                return chain.filter(exchange);
-            }
+        if (publicRoutes.matches(method, path)) {
+            // 공개 경로는 토큰이 없거나 무효여도 통과, 유효하면 신원 헤더만 붙임
+            VerifiedTokenCache.VerifiedToken verified = token != null ? verify(token, path) : null;
+            return chain.filter(withIdentity(stripped, verified));
         }
         // GET /api/posts/* 는 위에서 이미 허용됨. POST/PUT/DELETE 등은 토큰 필요
-        String token = resolveToken(exchange);
         if (token == null) {
-            return chain.filter(exchange);
+            return chain.filter(stripped);
+        }
+        VerifiedTokenCache.VerifiedToken verified = verify(token, path);
+        if (verified == null) {
+            return respond401(stripped);
+        }
+        return chain.filter(withIdentity(stripped, verified));
+    }
+
+    /** 검증된 사용자 정보를 서명된 내부 헤더로 추가 (userId·role 이 모두 있을 때만) */
+    private ServerWebExchange withIdentity(ServerWebExchange exchange, VerifiedTokenCache.VerifiedToken verified) {
+        if (verified == null || verified.userId() == null || verified.role() == null) {
+            return exchange;
+        }
+        long timestamp = System.currentTimeMillis();
+        ServerHttpRequest request = exchange.getRequest();
+        String signature = identitySigner.sign(timestamp, request.getMethod().name(), request.getPath().value(),
+            verified.userId(), verified.role());
+        return exchange.mutate()
+            .request(r -> r.headers(h -> {
+                h.set(IdentityHeaderSigner.USER_ID, verified.userId());
+                h.set(IdentityHeaderSigner.USER_ROLE, verified.role());
+                h.set(IdentityHeaderSigner.TIMESTAMP, Long.toString(timestamp));
+                h.set(IdentityHeaderSigner.SIGNATURE, signature);
+            }))
+            .build();
+    }
+
+    /** 외부에서 위조한 내부 신원 헤더 제거 (없으면 원본 그대로) */
+    private ServerWebExchange stripIdentityHeaders(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        boolean present = false;
+        for (String name : IdentityHeaderSigner.ALL) {
+            if (headers.containsKey(name)) {
+                present = true;
+                break;
+            }
+        }
+        if (!present) {
+            return exchange;
+        }
+        return exchange.mutate()
+            .request(r -> r.headers(h -> {
+                for (String name : IdentityHeaderSigner.ALL) {
+                    h.remove(name);
+                }
+            }))
+            .build();
+    }
+
+    /** 캐시 히트면 그대로, 미스면 서명·만료 검증 후 만료 시각까지 캐싱. 실패 시 null */
+    private VerifiedTokenCache.VerifiedToken verify(String token, String path) {
+        long now = System.currentTimeMillis();
+        VerifiedTokenCache.VerifiedToken cached = tokenCache.get(token, now);
+        if (cached != null) {
+            return cached;
         }
         try {
-            Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-            if (claims.getExpiration() != null && claims.getExpiration().before(new java.util.Date())) {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            if (expiration != null && expiration.getTime() <= now) {
                 log.debug("JWT expired for path: {}", path);
-                return respond401(exchange);
+                return null;
+            }
+            VerifiedTokenCache.VerifiedToken verified = new VerifiedTokenCache.VerifiedToken(
+                claims.getSubject(),
+                claims.get("roles", String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE
+            );
+            // 만료 없는 토큰은 캐시에 두지 않음 (항목이 영구히 남지 않도록)
+            if (expiration != null) {
+                tokenCache.put(token, verified);
             }
-            return chain.filter(exchange);
+            return verified;
         } catch (Exception e) {
             log.debug("JWT validation failed for path {}: {}", path, e.getMessage());
-            return respond401(exchange);
+            return null;
         }
     }
 
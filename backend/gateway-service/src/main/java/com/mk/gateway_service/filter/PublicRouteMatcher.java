@@ -0,0 +1,151 @@
+package com.mk.gateway_service.filter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 공개(인증 불필요) 경로 판별용 경로 세그먼트 트라이.
+ * 규칙 형식은 "METHOD[|METHOD...] /path" 이며 METHOD가 * 이면 모든 메서드를 허용합니다.
+ * 세그먼트는 리터럴, 숫자 한 세그먼트({n}), 마지막에만 올 수 있는 나머지 전체(**, 0개 이상) 중 하나입니다.
+ * 트라이는 기동 시 한 번 만들고 이후 읽기만 하므로 스레드 간 공유가 안전합니다.
+ * 매칭은 경로 문자열을 인덱스로 훑으며 regionMatches로 비교하므로 요청당 객체를 만들지 않습니다.
+ */
+final class PublicRouteMatcher {
+
+    private static final String ANY_METHOD = "*";
+    private static final String NUMBER = "{n}";
+    private static final String REST = "**";
+
+    private final Node root = new Node();
+
+    private PublicRouteMatcher() {
+    }
+
+    /** 규칙 목록으로 트라이 생성. 형식이 잘못된 규칙은 IllegalArgumentException (기동 실패) */
+    static PublicRouteMatcher compile(Collection<String> rules) {
+        PublicRouteMatcher matcher = new PublicRouteMatcher();
+        for (String rule : rules) {
+            String trimmed = rule.trim();
+            if (!trimmed.isEmpty()) {
+                matcher.add(trimmed);
+            }
+        }
+        return matcher;
+    }
+
+    boolean matches(String method, String path) {
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            return false;
+        }
+        return match(root, method, path, 1);
+    }
+
+    private void add(String rule) {
+        int space = rule.indexOf(' ');
+        String path = space < 0 ? "" : rule.substring(space + 1).trim();
+        if (!path.startsWith("/")) {
+            throw new IllegalArgumentException("공개 경로 규칙 형식 오류 (\"METHOD /path\"): " + rule);
+        }
+        Set<String> methods = new HashSet<>(Arrays.asList(rule.substring(0, space).toUpperCase(Locale.ROOT).split("\\|")));
+
+        Node node = root;
+        String[] segments = path.substring(1).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (REST.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**'는 마지막 세그먼트에만 올 수 있습니다: " + rule);
+                }
+                node.restMethods = union(node.restMethods, methods);
+                return;
+            }
+            node = NUMBER.equals(segment) ? node.numberChild() : node.literalChild(segment);
+        }
+        node.exactMethods = union(node.exactMethods, methods);
+    }
+
+    /** start: 현재 세그먼트 시작 인덱스 (path.length()보다 크면 경로 끝) */
+    private static boolean match(Node node, String method, String path, int start) {
+        if (allows(node.restMethods, method)) {
+            return true;
+        }
+        if (start > path.length()) {
+            return allows(node.exactMethods, method);
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int length = end - start;
+        for (int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+            if (literal.length() == length && path.regionMatches(start, literal, 0, length)
+                && match(node.literalChildren[i], method, path, end + 1)) {
+                return true;
+            }
+        }
+        return node.numberChild != null && isDigits(path, start, end)
+            && match(node.numberChild, method, path, end + 1);
+    }
+
+    private static boolean allows(Set<String> methods, String method) {
+        return methods != null && (methods.contains(ANY_METHOD) || methods.contains(method));
+    }
+
+    private static boolean isDigits(String path, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char ch = path.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> union(Set<String> current, Set<String> added) {
+        if (current == null) {
+            return Set.copyOf(added);
+        }
+        Set<String> merged = new HashSet<>(current);
+        merged.addAll(added);
+        return Set.copyOf(merged);
+    }
+
+    /** 트라이 노드 — 리터럴 자식은 수가 적으므로 배열 선형 탐색 */
+    private static final class Node {
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        private Node numberChild;
+        /** 이 노드에서 끝나는 경로의 허용 메서드 */
+        private Set<String> exactMethods;
+        /** 이 노드 이하 전체(**)의 허용 메서드 */
+        private Set<String> restMethods;
+
+        Node literalChild(String literal) {
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(literal)) {
+                    return literalChildren[i];
+                }
+            }
+            Node child = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literals[literals.length - 1] = literal;
+            literalChildren[literalChildren.length - 1] = child;
+            return child;
+        }
+
+        Node numberChild() {
+            if (numberChild == null) {
+                numberChild = new Node();
+            }
+            return numberChild;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.mk.gateway_service.filter;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 결과(userId, role, 만료 시각) 캐시.
+ * 토큰 해시로 슬롯을 고르는 고정 크기 direct-mapped 테이블이므로 크기가 제한되고 락이 없습니다.
+ * 같은 슬롯에 다른 토큰이 들어오면 덮어씁니다.
+ * 조회 시 토큰 원문 전체를 비교하므로 해시가 같은 다른(변조된) 토큰에 캐시된 결과를 돌려주지 않으며,
+ * 만료 시각이 지난 항목은 조회 시점에 슬롯에서 비웁니다.
+ */
+final class VerifiedTokenCache {
+
+    private static final int MAX_CAPACITY = 1 << 20;
+
+    record VerifiedToken(String userId, String role, long expiresAtMillis) {
+    }
+
+    private record Slot(String token, VerifiedToken verified) {
+    }
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /** capacity는 2의 거듭제곱으로 올림 (최대 2^20) */
+    VerifiedTokenCache(int capacity) {
+        int size = 2;
+        while (size < capacity && size < MAX_CAPACITY) size <<= 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /** now 시점에 유효한 캐시 결과, 없으면 null */
+    VerifiedToken get(String token, long now) {
+        int index = indexOf(token);
+        Slot slot = slots.get(index);
+        if (slot != null && slot.verified().expiresAtMillis() <= now) {
+            slots.compareAndSet(index, slot, null);
+            slot = null;
+        }
+        if (slot == null || !slot.token().equals(token)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return slot.verified();
+    }
+
+    void put(String token, VerifiedToken verified) {
+        slots.set(indexOf(token), new Slot(token, verified));
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /** 채워진 슬롯 수 (메트릭용, O(capacity)) */
+    int size() {
+        int count = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) count++;
+        }
+        return count;
+    }
+
+    private int indexOf(String token) {
+        int h = token.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,37 @@
+package com.mk.post_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 응답 인코딩 설정.
+ * - 압축: 응답이 post.compression.min-response-size(기본 1KB) 이상이고 클라이언트가 Accept-Encoding: gzip 을 보내면
+ *   Tomcat이 gzip으로 압축합니다. JSON·JSON Lines·CBOR·Smile 응답이 대상입니다.
+ * - 바이너리 인코딩: CBOR·Smile 컨버터는 해당 Jackson dataformat 모듈이 클래스패스에 있으면 Spring MVC가 기본으로
+ *   등록하므로 여기서 따로 추가하지 않습니다. Accept가 없거나 JSON이면 JSON입니다.
+ */
+@Configuration
+public class HttpEncodingConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> responseCompressionCustomizer(
+            @Value("${post.compression.enabled:true}") boolean enabled,
+            @Value("${post.compression.min-response-size:1KB}") DataSize minResponseSize
+    ) {
+        return factory -> {
+            Compression compression = new Compression();
+            compression.setEnabled(enabled);
+            compression.setMinResponseSize(minResponseSize);
+            compression.setMimeTypes(new String[]{
+                    "application/json", "application/x-ndjson", "application/cbor", "application/x-jackson-smile",
+                    "text/plain", "text/html"
+            });
+            factory.setCompression(compression);
+        };
+    }
+}
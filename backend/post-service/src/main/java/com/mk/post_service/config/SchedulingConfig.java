@@ -0,0 +1,12 @@
+package com.mk.post_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 조회수 flush 등 post-service 내부 주기 작업(@Scheduled) 활성화.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
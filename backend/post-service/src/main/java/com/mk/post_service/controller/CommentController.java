@@ -2,10 +2,16 @@ package com.mk.post_service.controller;
 
 import com.mk.post_service.dto.CommentRequest;
 import com.mk.post_service.dto.CommentResponse;
+import com.mk.post_service.dto.CursorPage;
 import com.mk.post_service.service.CommentService;
 import com.mk.post_service.security.SecurityUtils; // ⭐ SecurityUtils 임포트
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -24,13 +30,40 @@ public class CommentController {
     ) {
         // ⭐ 수정: 유틸리티 클래스 사용
         String authenticatedUserId = SecurityUtils.getAuthenticatedUserId();
-        return commentService.createComment(postId, request, authenticatedUserId);
+        return commentService.createComment(postId, request, authenticatedUserId).join(); // 트랜잭션 커밋 후 닉네임 대기
     }
 
-    // 2. 댓글 조회 (GET /api/posts/{postId}/comments)
+    // 2. 댓글 조회 (GET /api/posts/{postId}/comments) — 작성 순 최대 100개. 전체는 커서(2-2)·스트리밍(2-3) 사용
     @GetMapping("/{postId}/comments")
     public List<CommentResponse> getComments(@PathVariable Long postId) {
-        return commentService.getCommentsByPostId(postId);
+        return commentService.getCommentsByPostId(postId).join();
+    }
+
+    // 2-1. 댓글 페이지 조회 (GET /api/posts/{postId}/comments?page=0&size=20) — 작성 순
+    @GetMapping(value = "/{postId}/comments", params = "page")
+    public Page<CommentResponse> getCommentsPage(
+            @PathVariable Long postId,
+            @RequestParam int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return commentService.getCommentsPage(postId, PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, 100)))).join();
+    }
+
+    // 2-2. 댓글 커서 조회 (GET /api/posts/{postId}/comments?after=&size=20) — 첫 페이지는 after= (빈 값)
+    @GetMapping(value = "/{postId}/comments", params = "after")
+    public CursorPage<CommentResponse> getCommentsAfter(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return commentService.getCommentsAfter(postId, after, Math.max(1, Math.min(size, 100))).join();
+    }
+
+    // 2-3. 댓글 스트리밍 조회 (GET /api/posts/{postId}/comments/stream) — JSON Lines, 한 줄에 댓글 하나
+    @GetMapping(value = "/{postId}/comments/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable Long postId) {
+        StreamingResponseBody body = out -> commentService.writeComments(postId, out);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
     }
 
     // 3. 댓글 수정 (PUT /api/posts/comments/{commentId})
@@ -41,7 +74,7 @@ public class CommentController {
     ) {
         // ⭐ 수정: 유틸리티 클래스 사용
         String authenticatedUserId = SecurityUtils.getAuthenticatedUserId();
-        return commentService.updateComment(commentId, request, authenticatedUserId);
+        return commentService.updateComment(commentId, request, authenticatedUserId).join(); // 트랜잭션 커밋 후 닉네임 대기
     }
 
     // 4. 댓글 삭제 (DELETE /api/posts/comments/{commentId})
@@ -3,15 +3,23 @@ package com.mk.post_service.controller;
 import com.mk.post_service.dto.PostRequest;
 import com.mk.post_service.dto.PostResponse;
 import com.mk.post_service.dto.PostSearchResultDto;
+import com.mk.post_service.dto.PostSummaryResponse;
 import com.mk.post_service.dto.CategoryResponse;
+import com.mk.post_service.dto.CursorPage;
 import com.mk.post_service.dto.TagResponse;
+import com.mk.post_service.service.ContentVersions;
+import com.mk.post_service.service.PopularPostsLeaderboard;
 import com.mk.post_service.service.PostService;
 import com.mk.post_service.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
@@ -22,6 +30,7 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final ContentVersions contentVersions;
 
     @PostMapping
     public PostResponse createPost(@RequestBody PostRequest request) {
@@ -30,13 +39,13 @@ public class PostController {
         if (role == null || !"ROLE_ADMIN".equals(role)) {
             throw new org.springframework.security.access.AccessDeniedException("포스트 작성 권한은 관리자만 있습니다.");
         }
-        return postService.createPost(request, authenticatedUserId);
+        return postService.createPost(request, authenticatedUserId).join(); // 서비스 트랜잭션 커밋 후 닉네임 대기
     }
 
     @PutMapping("/{id}")
     public PostResponse updatePost(@PathVariable Long id, @RequestBody PostRequest request) {
         String authenticatedUserId = SecurityUtils.getAuthenticatedUserId();
-        return postService.updatePost(id, request, authenticatedUserId);
+        return postService.updatePost(id, request, authenticatedUserId).join();
     }
 
     @DeleteMapping("/{id}")
@@ -45,12 +54,16 @@ public class PostController {
         postService.deletePost(id, authenticatedUserId);
     }
 
+    /** 인기글 — window: all(누적, 기본) | 24h | 7d (최근 기간 트렌딩) */
     @GetMapping("/popular")
-    public List<PostResponse> getPopularPosts(@RequestParam(defaultValue = "3") int limit) {
-        return postService.getTopPopularPosts(Math.min(limit, 10));
+    public List<PostSummaryResponse> getPopularPosts(
+            @RequestParam(defaultValue = "3") int limit,
+            @RequestParam(defaultValue = "all") String window
+    ) {
+        return postService.getTopPopularPosts(Math.min(limit, 10), PopularPostsLeaderboard.Window.from(window)).join();
     }
 
-    /** 키워드(SQL) 검색 — 하이브리드 검색용. 제목·본문 LIKE 검색. */
+    /** 키워드 검색 — 하이브리드 검색용. 역색인 BM25 점수와 snippet 내 일치 구간(highlights) 포함. */
     @GetMapping("/search")
     public java.util.Map<String, Object> searchByKeyword(
             @RequestParam String q,
@@ -63,55 +76,105 @@ public class PostController {
                     "postId", dto.getPostId(),
                     "title", dto.getTitle() != null ? dto.getTitle() : "",
                     "snippet", dto.getSnippet() != null ? dto.getSnippet() : "",
-                    "score", 1.0
+                    "score", dto.getScore(),
+                    "highlights", dto.getHighlights() != null ? dto.getHighlights() : java.util.List.of()
                 ))
                 .collect(java.util.stream.Collectors.toList())
         );
     }
 
+    /**
+     * 상세 — If-None-Match/If-Modified-Since가 일치하면 본문·닉네임 조회 없이 304.
+     * 같은 ETag로 JSON·CBOR·Smile 표현을 내보내므로 조건부 GET 응답에는 Vary: Accept를 붙여 캐시가 표현별로 구분하게 합니다.
+     */
     @GetMapping("/{id}")
-    public PostResponse getPost(@PathVariable Long id) {
-        return postService.getPostById(id);
+    public ResponseEntity<PostResponse> getPost(@PathVariable Long id, WebRequest webRequest) {
+        PostService.PostVersion version = postService.getPostVersion(id);
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            postService.countView(id);
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(postService.getPostById(id).join());
     }
 
     @GetMapping
-    public Page<PostResponse> getPosts(
+    public ResponseEntity<Page<PostSummaryResponse>> getPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest
     ) {
+        ContentVersions.Version version = contentVersions.current(ContentVersions.POSTS);
+        if (version != null && webRequest.checkNotModified(version.etag("posts"), version.lastModifiedMillis())) {
+            return null;
+        }
         // Pageable pageable = PageRequest.of(page, size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
         // return postService.getAllPosts(pageable);
-        return postService.getAllPosts(pageable);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(postService.getAllPosts(pageable).join());
+    }
+
+    /** 커서(keyset) 목록 — after 파라미터가 있으면 이 매핑이 선택됨. 첫 페이지는 after= (빈 값) */
+    @GetMapping(params = "after")
+    public CursorPage<PostSummaryResponse> getPostsAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return postService.getAllPostsAfter(after, Math.max(1, Math.min(size, 100))).join();
+    }
+
+    @GetMapping(value = "/category", params = "after")
+    public CursorPage<PostSummaryResponse> getPostsByCategoryAfter(
+            @RequestParam String name,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return postService.getPostsByCategoryAfter(name, after, Math.max(1, Math.min(size, 100))).join();
+    }
+
+    @GetMapping(value = "/tag", params = "after")
+    public CursorPage<PostSummaryResponse> getPostsByTagAfter(
+            @RequestParam String name,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return postService.getPostsByTagAfter(name, after, Math.max(1, Math.min(size, 100))).join();
     }
 
     @GetMapping("/category")
-    public Page<PostResponse> getPostsByCategory(
+    public Page<PostSummaryResponse> getPostsByCategory(
             @RequestParam String name,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        return postService.getPostsByCategory(name, pageable);
+        return postService.getPostsByCategory(name, pageable).join();
     }
 
     @GetMapping("/tag")
-    public Page<PostResponse> getPostsByTag(
+    public Page<PostSummaryResponse> getPostsByTag(
             @RequestParam String name,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        return postService.getPostsByTag(name, pageable);
+        return postService.getPostsByTag(name, pageable).join();
     }
 
     @GetMapping("/categories")
-    public List<CategoryResponse> getCategoriesListWithCount() {
-        return postService.getAllCategoriesWithCount();
+    public ResponseEntity<List<CategoryResponse>> getCategoriesListWithCount(WebRequest webRequest) {
+        ContentVersions.Version version = contentVersions.current(ContentVersions.TAXONOMY);
+        if (version != null && webRequest.checkNotModified(version.etag("categories"), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(postService.getAllCategoriesWithCount());
     }
 
     @GetMapping("/tags")
-    public List<TagResponse> getTagsListWithCount() {
-        return postService.getAllTagsWithCount();
+    public ResponseEntity<List<TagResponse>> getTagsListWithCount(WebRequest webRequest) {
+        ContentVersions.Version version = contentVersions.current(ContentVersions.TAXONOMY);
+        if (version != null && webRequest.checkNotModified(version.etag("tags"), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(postService.getAllTagsWithCount());
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.mk.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * 댓글 스트리밍 조회용 JPQL 생성자 프로젝션.
+ * 영속성 컨텍스트에 올라가지 않으므로 OSIV로 요청 끝까지 열려 있는 EntityManager에 배치가 쌓이지 않습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentProjection {
+    private Long id;
+    private String content;
+    private String authorId;
+    private Instant createdAt;
+}
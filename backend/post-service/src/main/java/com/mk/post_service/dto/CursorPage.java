@@ -0,0 +1,23 @@
+package com.mk.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 목록 응답.
+ * 전체 개수(COUNT)를 계산하지 않으며, 다음 페이지는 nextCursor를 after 파라미터로 넘겨 조회합니다.
+ * 마지막 페이지이면 nextCursor는 null 입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private int size;
+}
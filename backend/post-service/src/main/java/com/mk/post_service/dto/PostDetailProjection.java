@@ -0,0 +1,27 @@
+package com.mk.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 조회용 JPQL 생성자 프로젝션.
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 바로 DTO로 읽어옵니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDetailProjection {
+    private Long id;
+    private String title;
+    private String content;
+    private String authorId;
+    private LocalDateTime createdAt;
+    private String categoryName;
+    private Long viewCount;
+    private Long commentCount;
+}
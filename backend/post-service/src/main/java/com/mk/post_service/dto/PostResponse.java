@@ -20,8 +20,18 @@ public class PostResponse {
     private String categoryName; 
     private List<String> tagNames;
     private Long viewCount;
+    private Long commentCount;
 
     public static PostResponse fromEntity(Post post) {
+        return fromEntity(post,
+                post.getCategory() != null ? post.getCategory().getName() : null,
+                post.getTags().stream()
+                        .map(tag -> tag.getName())
+                        .collect(Collectors.toList()));
+    }
+
+    /** 카테고리/태그 이름을 이미 알고 있을 때 (연관 프록시를 초기화하지 않음) */
+    public static PostResponse fromEntity(Post post, String categoryName, List<String> tagNames) {
         PostResponse dto = new PostResponse();
         dto.setId(post.getId());
         dto.setTitle(post.getTitle());
@@ -32,15 +42,25 @@ public class PostResponse {
         // dto.setAuthorNickname(...) // 닉네임은 Service Layer에서 외부 통신으로 채워짐
         
         dto.setCreatedAt(post.getCreatedAt());
-
-        if (post.getCategory() != null) {
-            dto.setCategoryName(post.getCategory().getName());
-        }
-        
-        dto.setTagNames(post.getTags().stream()
-                                    .map(tag -> tag.getName())
-                                    .collect(Collectors.toList()));
+        dto.setCategoryName(categoryName);
+        dto.setTagNames(tagNames);
         dto.setViewCount(post.getViewCount() != null ? post.getViewCount() : 0L);
+        dto.setCommentCount(post.getCommentCount() != null ? post.getCommentCount() : 0L);
+        return dto;
+    }
+
+    /** 프로젝션 조회 결과로 생성 (엔티티 미사용 읽기 경로) */
+    public static PostResponse fromProjection(PostDetailProjection row, List<String> tagNames) {
+        PostResponse dto = new PostResponse();
+        dto.setId(row.getId());
+        dto.setTitle(row.getTitle());
+        dto.setContent(row.getContent());
+        dto.setAuthorId(row.getAuthorId());
+        dto.setCreatedAt(row.getCreatedAt());
+        dto.setCategoryName(row.getCategoryName());
+        dto.setTagNames(tagNames);
+        dto.setViewCount(row.getViewCount() != null ? row.getViewCount() : 0L);
+        dto.setCommentCount(row.getCommentCount() != null ? row.getCommentCount() : 0L);
         return dto;
     }
 }
\ No newline at end of file
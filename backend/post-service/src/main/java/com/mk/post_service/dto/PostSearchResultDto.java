@@ -5,8 +5,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 /**
- * 키워드(SQL) 검색 결과 — 하이브리드 검색 시 프론트와 검색 서비스 응답 형식 통일용.
+ * 키워드 검색 결과 — 하이브리드 검색 시 프론트와 검색 서비스 응답 형식 통일용.
+ * score는 BM25 점수, highlights는 snippet 내 일치 구간 [start, end) 목록입니다.
  */
 @Getter
 @Setter
@@ -16,4 +19,6 @@ public class PostSearchResultDto {
     private Long postId;
     private String title;
     private String snippet;
+    private double score;
+    private List<int[]> highlights;
 }
@@ -0,0 +1,27 @@
+package com.mk.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 JPQL 생성자 프로젝션.
+ * 본문(content) 대신 작성 시점에 저장한 excerpt만 읽으므로 목록 쿼리는 TEXT 컬럼을 건드리지 않습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryProjection {
+    private Long id;
+    private String title;
+    private String excerpt;
+    private String authorId;
+    private LocalDateTime createdAt;
+    private String categoryName;
+    private Long viewCount;
+    private Long commentCount;
+}
@@ -0,0 +1,40 @@
+package com.mk.post_service.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 목록 카드용 응답 (목록·카테고리·태그·인기글).
+ * 본문 대신 excerpt만 담으며, 본문은 상세 조회(PostResponse)에서만 내려갑니다.
+ */
+@Getter @Setter
+public class PostSummaryResponse {
+    private Long id;
+    private String title;
+    private String excerpt;
+    private String authorId;
+    private String authorNickname;
+    private LocalDateTime createdAt;
+
+    private String categoryName;
+    private List<String> tagNames;
+    private Long viewCount;
+    private Long commentCount;
+
+    public static PostSummaryResponse fromProjection(PostSummaryProjection row, List<String> tagNames) {
+        PostSummaryResponse dto = new PostSummaryResponse();
+        dto.setId(row.getId());
+        dto.setTitle(row.getTitle());
+        dto.setExcerpt(row.getExcerpt() != null ? row.getExcerpt() : "");
+        dto.setAuthorId(row.getAuthorId());
+        dto.setCreatedAt(row.getCreatedAt());
+        dto.setCategoryName(row.getCategoryName());
+        dto.setTagNames(tagNames);
+        dto.setViewCount(row.getViewCount() != null ? row.getViewCount() : 0L);
+        dto.setCommentCount(row.getCommentCount() != null ? row.getCommentCount() : 0L);
+        return dto;
+    }
+}
@@ -18,6 +18,11 @@ public class Category {
 
     private String name;
 
+    /** 이 항목에 속한 게시글 수 (작성·수정·삭제 시 PostService에서 원자적으로 증감) */
+    @Builder.Default
+    @Column(name = "post_count", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long postCount = 0L;
+
     @JsonIgnore 
     @OneToMany(mappedBy = "category")
     private List<Post> posts = new ArrayList<>();
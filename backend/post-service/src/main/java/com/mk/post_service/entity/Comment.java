@@ -14,7 +14,9 @@ import java.time.Instant;
 @Builder // ⭐ 추가: 빌더 패턴 활성화
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // ⭐ 추가: JPA 요구 사항 (기본 생성자)
 @AllArgsConstructor // ⭐ 추가: 빌더를 위한 전체 필드 생성자
-@Table(name = "COMMENTS")
+@Table(name = "COMMENTS", indexes = {
+    @Index(name = "idx_comment_post_created_at", columnList = "post_id, created_at, id")
+})
 public class Comment {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
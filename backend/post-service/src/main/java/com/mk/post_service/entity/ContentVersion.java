@@ -0,0 +1,28 @@
+package com.mk.post_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 조건부 GET(ETag/Last-Modified)용 전역 버전.
+ * 게시글 목록(posts)과 카테고리/태그 목록(taxonomy) 각각 한 행이며, 쓰기 트랜잭션에서 원자적으로 증가합니다.
+ * DB에 두는 이유: 인스턴스별 메모리 카운터는 다른 인스턴스의 쓰기를 모르므로 오래된 내용에 304를 줄 수 있습니다.
+ */
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "content_versions")
+public class ContentVersion {
+    @Id
+    @Column(length = 30)
+    private String name;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
+    private Instant updatedAt;
+}
@@ -12,18 +12,32 @@ import java.util.Set;
 
 @Entity
 @Getter @Setter
-@Table(name = "posts", indexes = @Index(name = "idx_post_created_at", columnList = "createdAt"))
+@Table(name = "posts", indexes = {
+    @Index(name = "idx_post_created_at", columnList = "createdAt"),
+    @Index(name = "idx_post_view_count", columnList = "view_count"),
+    // 카테고리별 커서 목록 (category_id = ? AND id < ? ORDER BY id DESC) seek
+    @Index(name = "idx_post_category_id", columnList = "category_id, id")
+})
 // @Table(name = "posts")
 public class Post {
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private String title;
 
     // @Lob
+    // 본문은 상세 조회에서만 필요. 목록은 excerpt 프로젝션을 사용하며,
+    // LAZY는 Hibernate 바이트코드 향상이 켜진 경우 엔티티 로딩 시에도 본문을 늦게 읽게 합니다.
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT") //PostgreSQL 오류 방지
     private String content; 
 
+    // 목록 카드용 본문 앞부분 (작성·수정 시 content에서 계산)
+    @Column(name = "excerpt", length = EXCERPT_LENGTH)
+    private String excerpt;
+
     // ⭐ 수정: User 엔티티와의 관계 제거
     // @ManyToOne(fetch = FetchType.LAZY)
     // @JoinColumn(name = "user_id") 
@@ -35,9 +49,34 @@ public class Post {
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // 마지막 수정 시각 (상세 조회 ETag/Last-Modified). 컬럼 추가 이전 게시글은 null이며 createdAt으로 대체
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @Column(name = "view_count", nullable = false)
     private Long viewCount = 0L;
 
+    // 댓글 수 비정규화 (CommentService가 원자적으로 증감, 기동 시 재집계).
+    // updatable = false: 게시글 수정 시 엔티티 flush가 로딩 시점 값으로 덮어쓰지 않도록 함
+    @Column(name = "comment_count", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long commentCount = 0L;
+
+    @PrePersist
+    @PreUpdate
+    protected void beforeWrite() {
+        this.excerpt = excerptOf(this.content);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /** 공백을 하나로 합친 본문 앞 EXCERPT_LENGTH자 (코드 포인트 기준 — 백필 SQL의 LEFT와 같고 서로게이트 쌍을 자르지 않음) */
+    public static String excerptOf(String content) {
+        if (content == null) return "";
+        String normalized = content.replaceAll("\\s+", " ").trim();
+        int codePoints = normalized.codePointCount(0, normalized.length());
+        if (codePoints <= EXCERPT_LENGTH) return normalized;
+        return normalized.substring(0, normalized.offsetByCodePoints(0, EXCERPT_LENGTH));
+    }
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category; 
@@ -46,10 +85,13 @@ public class Post {
     @JoinTable(
         name = "post_tag",
         joinColumns = @JoinColumn(name="post_id"),
-        inverseJoinColumns = @JoinColumn(name="tag_id")
+        inverseJoinColumns = @JoinColumn(name="tag_id"),
+        // 태그별 커서 목록 seek — PK(post_id, tag_id)는 tag_id로 시작하지 않음
+        indexes = @Index(name = "idx_post_tag_tag_post", columnList = "tag_id, post_id")
     )
     private Set<Tag> tags = new HashSet<>(); 
 
-    @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    // 댓글 삭제는 PostService.deletePost에서 bulk DELETE로 처리 (cascade 시 댓글 엔티티를 하나씩 로딩·삭제하므로 사용하지 않음)
+    @OneToMany(mappedBy = "post")
     private List<Comment> comments = new ArrayList<>();
 }
\ No newline at end of file
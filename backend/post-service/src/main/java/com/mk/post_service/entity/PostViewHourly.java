@@ -0,0 +1,30 @@
+package com.mk.post_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 게시글별 시간 단위(epoch hour) 조회수 증분 — 트렌딩(24h/7d) 순위의 원천.
+ * 모든 인스턴스가 조회수 flush 때 같은 트랜잭션에서 upsert 하므로, 어느 인스턴스에서 계산해도 같은 순위가 나옵니다.
+ * 7일이 지난 버킷은 PopularPostsLeaderboard가 정리합니다.
+ */
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "post_view_hourly",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_view_hourly_post_hour", columnNames = {"post_id", "bucket_hour"}),
+        indexes = @Index(name = "idx_post_view_hourly_hour", columnList = "bucket_hour"))
+public class PostViewHourly {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "bucket_hour", nullable = false)
+    private Long bucketHour;
+
+    @Column(nullable = false)
+    private Long views;
+}
@@ -18,6 +18,11 @@ public class Tag {
 
     private String name;
 
+    /** 이 항목에 속한 게시글 수 (작성·수정·삭제 시 PostService에서 원자적으로 증감) */
+    @Builder.Default
+    @Column(name = "post_count", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long postCount = 0L;
+
     @JsonIgnore
     @ManyToMany(mappedBy = "tags")
     private Set<Post> posts = new HashSet<>();
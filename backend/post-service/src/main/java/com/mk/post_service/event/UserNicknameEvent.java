@@ -0,0 +1,16 @@
+package com.mk.post_service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * user-service가 user-nickname-topic 으로 발행하는 닉네임 생성/변경 이벤트.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserNicknameEvent {
+    private String id;
+    private String nickname;
+}
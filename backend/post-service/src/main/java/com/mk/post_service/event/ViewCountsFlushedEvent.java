@@ -0,0 +1,16 @@
+package com.mk.post_service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * ViewCountAggregator가 조회수 증분을 DB에 반영한 직후 발행하는 내부 이벤트 (postId → 이번에 반영된 증분).
+ * 인기글 리더보드가 구독하여 순위를 갱신합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ViewCountsFlushedEvent {
+    private final Map<Long, Long> deltas;
+}
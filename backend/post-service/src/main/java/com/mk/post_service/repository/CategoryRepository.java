@@ -2,7 +2,9 @@ package com.mk.post_service.repository;
 
 import com.mk.post_service.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +16,28 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     // SELECT c.name, COUNT(p) -> Category 이름과 해당 카테고리 Post 개수
     @Query("SELECT c.name, COUNT(p) FROM Category c JOIN c.posts p GROUP BY c.name ORDER BY COUNT(p) DESC")
     List<Object[]> findCategoryNamesAndPostCounts();
+
+    /** post_count 원자적 증감 (동시 작성 시 lost update 방지) */
+    @Modifying
+    @Query("UPDATE Category c SET c.postCount = c.postCount + :delta WHERE c.id = :id")
+    int addPostCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Query("SELECT c.postCount FROM Category c WHERE c.id = :id")
+    Long findPostCountById(@Param("id") Long id);
+
+    /** 목록 totalElements용 (PostCountCache). 없는 이름이면 empty */
+    @Query("SELECT c.postCount FROM Category c WHERE c.name = :name")
+    Optional<Long> findPostCountByName(@Param("name") String name);
+
+    /** 기동 시 백필 — post_count가 0인데 게시글이 있는 행만 (컬럼 추가 직후 상태) */
+    @Modifying
+    @Query("UPDATE Category c SET c.postCount = (SELECT COUNT(p) FROM Post p WHERE p.category = c) " +
+           "WHERE c.postCount = 0 AND EXISTS (SELECT p.id FROM Post p WHERE p.category = c)")
+    int backfillPostCounts();
+
+    /** 오차 보정 재집계 — 실제 게시글 수와 다른 행만 갱신 */
+    @Modifying
+    @Query("UPDATE Category c SET c.postCount = (SELECT COUNT(p) FROM Post p WHERE p.category = c) " +
+           "WHERE c.postCount <> (SELECT COUNT(p) FROM Post p WHERE p.category = c)")
+    int recountPostCounts();
 }
\ No newline at end of file
@@ -1,13 +1,55 @@
 package com.mk.post_service.repository;
 
+import com.mk.post_service.dto.CommentProjection;
 import com.mk.post_service.entity.Comment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    // 포스트 ID로 댓글 목록을 조회하는 메서드 추가
-    List<Comment> findByPostId(Long postId);
+    // 게시글 삭제 시 댓글 일괄 삭제 (엔티티 로딩 없이 DELETE 한 번)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id = :postId")
+    int deleteAllByPostIdInBulk(@Param("postId") Long postId);
+
+    // 작성 순 페이지 조회 — (post_id, created_at, id) 인덱스 사용
+    @Query(value = "SELECT c FROM Comment c WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC",
+           countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId")
+    Page<Comment> findPageByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    // 커서(keyset) 첫 페이지
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findFirstPageByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    // 커서(keyset) 다음 페이지 — (createdAt, id)가 커서 이후인 댓글. OFFSET 없이 인덱스 범위 스캔
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findPageByPostIdAfter(@Param("postId") Long postId,
+                                        @Param("createdAt") Instant createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // 스트리밍용 첫 배치 — 엔티티 대신 프로젝션 (영속성 컨텍스트에 쌓이지 않음)
+    @Query("SELECT new com.mk.post_service.dto.CommentProjection(c.id, c.content, c.authorId, c.createdAt) " +
+           "FROM Comment c WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentProjection> findFirstProjectionsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    // 스트리밍용 다음 배치 — findPageByPostIdAfter와 같은 keyset 조건
+    @Query("SELECT new com.mk.post_service.dto.CommentProjection(c.id, c.content, c.authorId, c.createdAt) " +
+           "FROM Comment c WHERE c.post.id = :postId " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentProjection> findProjectionsByPostIdAfter(@Param("postId") Long postId,
+                                                         @Param("createdAt") Instant createdAt,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.mk.post_service.repository;
+
+import com.mk.post_service.entity.ContentVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface ContentVersionRepository extends JpaRepository<ContentVersion, String> {
+
+    /** 버전 원자적 증가 (ContentVersions가 쓰기 트랜잭션 커밋 후 별도 트랜잭션으로 호출) */
+    @Modifying
+    @Query("UPDATE ContentVersion v SET v.version = v.version + 1, v.updatedAt = :now WHERE v.name IN :names")
+    int bump(@Param("names") Collection<String> names, @Param("now") Instant now);
+
+    /** 버전 행 생성. 여러 인스턴스가 동시에 기동해도 PK 충돌 없이 한 번만 들어가도록 ON CONFLICT로 무시 */
+    @Modifying
+    @Query(value = "INSERT INTO content_versions (name, version, updated_at) VALUES (:name, 1, :now) ON CONFLICT (name) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("now") Instant now);
+}
@@ -1,16 +1,19 @@
 package com.mk.post_service.repository;
 
+import com.mk.post_service.dto.PostDetailProjection;
+import com.mk.post_service.dto.PostSummaryProjection;
 import com.mk.post_service.entity.Post;
-import com.mk.post_service.entity.Category;
-import com.mk.post_service.entity.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -23,28 +26,113 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     //    countQuery = "SELECT COUNT(DISTINCT p) FROM Post p") // DISTINCT 추가: 정확한 개수 산정
         // Page<Post> findAllWithDetails(Pageable pageable);
     // FETCH JOIN을 제거하여 메모리 페이징 방지
-    @Query(value = "SELECT p FROM Post p", 
+    // 목록은 id만 페이징한 뒤 PostPageLoader가 상세·태그를 IN 쿼리로 일괄 조회 (N+1 방지)
+    @Query(value = "SELECT p.id FROM Post p", 
            countQuery = "SELECT COUNT(p) FROM Post p")
-    Page<Post> findAllWithDetails(Pageable pageable);
+    Page<Long> findPageIds(Pageable pageable);
 
     
     // 서비스의 getPostsByCategory와 일치하도록 수정
-    Page<Post> findByCategoryName(String categoryName, Pageable pageable);
+    @Query(value = "SELECT p.id FROM Post p JOIN p.category c WHERE c.name = :name",
+           countQuery = "SELECT COUNT(p) FROM Post p JOIN p.category c WHERE c.name = :name")
+    Page<Long> findPageIdsByCategoryName(@Param("name") String categoryName, Pageable pageable);
     
     // 서비스의 getPostsByTag와 일치하도록 수정
-    Page<Post> findByTagsName(String tagName, Pageable pageable);
+    @Query(value = "SELECT p.id FROM Post p JOIN p.tags t WHERE t.name = :name",
+           countQuery = "SELECT COUNT(p) FROM Post p JOIN p.tags t WHERE t.name = :name")
+    Page<Long> findPageIdsByTagName(@Param("name") String tagName, Pageable pageable);
 
-    // PostService의 통계 기능을 위해 이름 일치
-    long countByCategory(Category category);
-    
-    // 서비스의 getAllTagsWithCount 내 countByTags와 일치하도록 수정
-    long countByTags(Tag tag);
+    // COUNT 없이 id만 페이징 (totalElements는 PostCountCache에서 제공 — post.count.mode=cached)
+    @Query("SELECT p.id FROM Post p")
+    List<Long> findIds(Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p JOIN p.category c WHERE c.name = :name")
+    List<Long> findIdsByCategoryName(@Param("name") String categoryName, Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p JOIN p.tags t WHERE t.name = :name")
+    List<Long> findIdsByTagName(@Param("name") String tagName, Pageable pageable);
+
+    // 커서(keyset) 목록 — id 인덱스로 seek 하며 COUNT 쿼리 없음. limit은 Pageable(0, size + 1)로 전달
+    @Query("SELECT p.id FROM Post p WHERE p.id < :after ORDER BY p.id DESC")
+    List<Long> findIdsBefore(@Param("after") long after, Pageable limit);
+
+    @Query("SELECT p.id FROM Post p JOIN p.category c WHERE c.name = :name AND p.id < :after ORDER BY p.id DESC")
+    List<Long> findIdsByCategoryNameBefore(@Param("name") String categoryName, @Param("after") long after, Pageable limit);
 
-    /** 조회수 기준 인기글 상위 N개 (메인 페이지 인기글) */
-    @Query("SELECT p FROM Post p ORDER BY p.viewCount DESC")
-    List<Post> findTopByViewCount(Pageable pageable);
+    @Query("SELECT p.id FROM Post p JOIN p.tags t WHERE t.name = :name AND p.id < :after ORDER BY p.id DESC")
+    List<Long> findIdsByTagNameBefore(@Param("name") String tagName, @Param("after") long after, Pageable limit);
 
-    /** 키워드 검색 (제목·본문 SQL LIKE) — 하이브리드 검색용 */
+    /** 조회수 기준 인기글 상위 N개 (메인 페이지 인기글) — 리더보드 준비 전 대체 경로 */
+    @Query("SELECT p.id FROM Post p ORDER BY p.viewCount DESC")
+    List<Long> findTopIdsByViewCount(Pageable pageable);
+
+    /** 리더보드 보정용 (id, viewCount) 상위 N개 — idx_post_view_count 사용 */
+    @Query("SELECT p.id, p.viewCount FROM Post p ORDER BY p.viewCount DESC")
+    List<Object[]> findTopViewCounts(Pageable pageable);
+
+    /** 조회수 flush 직후 갱신된 게시글들의 현재 조회수 */
+    @Query("SELECT p.id, p.viewCount FROM Post p WHERE p.id IN :ids")
+    List<Object[]> findViewCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 키워드 검색 (제목·본문 SQL LIKE) — 키워드 색인 구성 전 대체 경로 */
     @Query("SELECT p FROM Post p WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :q, '%')) OR LOWER(p.content) LIKE LOWER(CONCAT('%', :q, '%'))")
     Page<Post> searchByKeyword(@Param("q") String q, Pageable pageable);
-}
\ No newline at end of file
+
+    /** comment_count 원자적 증감 (동시 댓글 작성 시 lost update 방지) */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    /** 기동 시 백필 — comment_count가 0인데 댓글이 있는 행만 (컬럼 추가 직후 상태) */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post = p) " +
+           "WHERE p.commentCount = 0 AND EXISTS (SELECT c.id FROM Comment c WHERE c.post = p)")
+    int backfillCommentCounts();
+
+    /** 오차 보정 재집계 — 실제 댓글 수와 다른 행만 갱신 */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post = p) " +
+           "WHERE p.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.post = p)")
+    int recountCommentCounts();
+
+    /** 트랜잭션 범위 advisory lock 시도 (여러 인스턴스 중 하나만 재집계) */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+
+    /** 상세 조건부 GET용 — [수정 시각(없으면 작성 시각), 댓글 수]. 본문·연관은 읽지 않음 */
+    @Query("SELECT COALESCE(p.updatedAt, p.createdAt), p.commentCount FROM Post p WHERE p.id = :id")
+    List<Object[]> findVersionById(@Param("id") Long id);
+
+    /** 상세 조회용 프로젝션 — 엔티티 그래프 없이 컬럼만 조회 (읽기 전용 경로) */
+    @Query("SELECT new com.mk.post_service.dto.PostDetailProjection(p.id, p.title, p.content, p.authorId, p.createdAt, c.name, p.viewCount, p.commentCount) " +
+           "FROM Post p LEFT JOIN p.category c WHERE p.id = :id")
+    Optional<PostDetailProjection> findDetailById(@Param("id") Long id);
+
+    /** 검색 snippet용 — 여러 게시글의 상세 프로젝션(본문 포함)을 IN 쿼리 한 번으로 조회 */
+    @Query("SELECT new com.mk.post_service.dto.PostDetailProjection(p.id, p.title, p.content, p.authorId, p.createdAt, c.name, p.viewCount, p.commentCount) " +
+           "FROM Post p LEFT JOIN p.category c WHERE p.id IN :ids")
+    List<PostDetailProjection> findDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 목록용 — 여러 게시글의 요약 프로젝션(본문 제외, excerpt 포함)을 IN 쿼리 한 번으로 조회 */
+    @Query("SELECT new com.mk.post_service.dto.PostSummaryProjection(p.id, p.title, p.excerpt, p.authorId, p.createdAt, c.name, p.viewCount, p.commentCount) " +
+           "FROM Post p LEFT JOIN p.category c WHERE p.id IN :ids")
+    List<PostSummaryProjection> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** excerpt 컬럼 추가 이전 게시글 백필 (Post.excerptOf와 같은 규칙: 공백 정리 후 앞 200자) */
+    @Modifying
+    @Query(value = "UPDATE posts SET excerpt = LEFT(BTRIM(REGEXP_REPLACE(COALESCE(content, ''), '\\s+', ' ', 'g')), 200) " +
+                   "WHERE excerpt IS NULL", nativeQuery = true)
+    int backfillExcerpts();
+
+    /** 목록용 — 여러 게시글의 (postId, tagName) 쌍을 IN 쿼리 한 번으로 조회 */
+    @Query("SELECT p.id, t.name FROM Post p JOIN p.tags t WHERE p.id IN :ids")
+    List<Object[]> findTagNamesByPostIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 키워드 색인 재구성용 — (id, title, content)를 id 순 배치로 조회 */
+    @Query("SELECT p.id, p.title, p.content FROM Post p WHERE p.id > :after ORDER BY p.id ASC")
+    List<Object[]> findIndexRowsAfter(@Param("after") long after, Pageable limit);
+
+    /** 게시글 하나의 태그 이름 목록 */
+    @Query("SELECT t.name FROM Post p JOIN p.tags t WHERE p.id = :id")
+    List<String> findTagNamesByPostId(@Param("id") Long id);
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.mk.post_service.repository;
+
+import com.mk.post_service.entity.PostViewHourly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface PostViewHourlyRepository extends JpaRepository<PostViewHourly, Long> {
+
+    /**
+     * 트렌딩 상위 N개 (postId, 감쇠 점수). fromHour 이후 버킷만, 삭제된 게시글은 posts 조인으로 제외.
+     * 점수 = Σ views × 0.5^((currentHour - bucketHour) / halfLifeHours)
+     */
+    @Query(value = "SELECT h.post_id, CAST(SUM(h.views * POWER(0.5, (:currentHour - h.bucket_hour) / :halfLifeHours)) AS DOUBLE PRECISION) AS score "
+            + "FROM post_view_hourly h JOIN posts p ON p.id = h.post_id "
+            + "WHERE h.bucket_hour > :fromHour "
+            + "GROUP BY h.post_id ORDER BY score DESC, h.post_id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<Object[]> findTrending(@Param("currentHour") long currentHour,
+                                @Param("fromHour") long fromHour,
+                                @Param("halfLifeHours") double halfLifeHours,
+                                @Param("limit") int limit);
+
+    /** 보관 기간이 지난 버킷 정리 */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM post_view_hourly WHERE bucket_hour <= :cutoffHour", nativeQuery = true)
+    int deleteUpTo(@Param("cutoffHour") long cutoffHour);
+}
@@ -2,15 +2,49 @@ package com.mk.post_service.repository;
 
 import com.mk.post_service.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String name);
 
+    /** 캐시 미스 태그 일괄 조회 (TaxonomyResolver) */
+    List<Tag> findByNameIn(Collection<String> names);
+
+    /** 캐시된 태그 id 중 아직 존재하는 것 (다른 인스턴스의 고아 정리 확인용, PK 인덱스만 사용) */
+    @Query("SELECT t.id FROM Tag t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     // ⭐ 추가: 모든 태그와 해당 태그 포스트 개수 조회 (포스트가 0개인 태그 제외)
     @Query("SELECT t.name, COUNT(p) FROM Tag t JOIN t.posts p GROUP BY t.name ORDER BY COUNT(p) DESC")
     List<Object[]> findTagNamesAndPostCounts();
+
+    /** 여러 태그의 post_count를 한 번에 원자적으로 증감 */
+    @Modifying
+    @Query("UPDATE Tag t SET t.postCount = t.postCount + :delta WHERE t.id IN :ids")
+    int addPostCount(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+    @Query("SELECT t.postCount FROM Tag t WHERE t.id = :id")
+    Long findPostCountById(@Param("id") Long id);
+
+    /** 목록 totalElements용 (PostCountCache). 없는 이름이면 empty */
+    @Query("SELECT t.postCount FROM Tag t WHERE t.name = :name")
+    Optional<Long> findPostCountByName(@Param("name") String name);
+
+    /** 기동 시 백필 — post_count가 0인데 게시글이 있는 행만 (컬럼 추가 직후 상태) */
+    @Modifying
+    @Query("UPDATE Tag t SET t.postCount = (SELECT COUNT(p) FROM Post p JOIN p.tags pt WHERE pt = t) " +
+           "WHERE t.postCount = 0 AND EXISTS (SELECT p.id FROM Post p JOIN p.tags pt WHERE pt = t)")
+    int backfillPostCounts();
+
+    /** 오차 보정 재집계 — 실제 게시글 수와 다른 행만 갱신 */
+    @Modifying
+    @Query("UPDATE Tag t SET t.postCount = (SELECT COUNT(p) FROM Post p JOIN p.tags pt WHERE pt = t) " +
+           "WHERE t.postCount <> (SELECT COUNT(p) FROM Post p JOIN p.tags pt WHERE pt = t)")
+    int recountPostCounts();
 }
\ No newline at end of file
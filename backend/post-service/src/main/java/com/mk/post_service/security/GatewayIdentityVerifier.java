@@ -0,0 +1,102 @@
+package com.mk.post_service.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Gateway가 JWT 검증 후 붙여 보내는 내부 신원 헤더(X-User-Id, X-User-Role, X-User-Timestamp, X-User-Signature) 확인.
+ * HmacSHA256("timestamp\nmethod\nrequestURI\nuserId\nrole") 일치와 timestamp 신선도(gateway.identity.max-age-ms, 기본 30초)만
+ * 보므로 JWT 서명 검증보다 훨씬 가볍습니다. 메서드·경로가 서명에 들어가므로 가로챈 헤더를 다른 엔드포인트에 재사용할 수 없습니다.
+ * 키는 jwt.secret과 분리된 gateway.identity.secret(필수)입니다.
+ * 헤더가 없거나 맞지 않으면 null을 돌려 쿠키 JWT 검증으로 넘어가게 합니다.
+ */
+@Slf4j
+@Component
+public class GatewayIdentityVerifier {
+
+    public static final String USER_ID = "X-User-Id";
+    public static final String USER_ROLE = "X-User-Role";
+    public static final String TIMESTAMP = "X-User-Timestamp";
+    public static final String SIGNATURE = "X-User-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    public record Identity(String userId, String role) {
+    }
+
+    private final SecretKeySpec key;
+    private final Mac prototype;
+    private final long maxAgeMillis;
+
+    public GatewayIdentityVerifier(
+            @Value("${gateway.identity.secret}") String secret,
+            @Value("${gateway.identity.max-age-ms:30000}") long maxAgeMillis
+    ) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.maxAgeMillis = maxAgeMillis;
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(key);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("내부 신원 헤더 키 초기화 실패", e);
+        }
+    }
+
+    /** 서명이 맞고 시간 창 안의 헤더면 신원, 아니면 null */
+    public Identity verify(HttpServletRequest request) {
+        String signature = request.getHeader(SIGNATURE);
+        if (signature == null) return null;
+        String userId = request.getHeader(USER_ID);
+        String role = request.getHeader(USER_ROLE);
+        String timestampHeader = request.getHeader(TIMESTAMP);
+        if (userId == null || role == null || timestampHeader == null) return null;
+
+        long timestamp;
+        try {
+            timestamp = Long.parseLong(timestampHeader);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (Math.abs(System.currentTimeMillis() - timestamp) > maxAgeMillis) {
+            log.debug("Gateway identity header expired: ts={}", timestamp);
+            return null;
+        }
+        String payload = timestamp + "\n" + request.getMethod() + "\n" + request.getRequestURI() + "\n" + userId + "\n" + role;
+        byte[] expected = newMac().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        byte[] actual;
+        try {
+            actual = Base64.getUrlDecoder().decode(signature);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(expected, actual)) {
+            log.warn("Gateway identity header signature mismatch");
+            return null;
+        }
+        return new Identity(userId, role);
+    }
+
+    /** Mac은 스레드 안전하지 않으므로 초기화된 원본을 복제해서 사용 */
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
     
     /**
      * ⭐ 추가: HTTP 헤더 대신 "authToken" 쿠키에서 JWT를 추출하도록 변경
@@ -44,23 +45,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, 
                                     HttpServletResponse response, 
                                     FilterChain filterChain) throws ServletException, IOException {
-        
+
+        // Gateway가 이미 검증해 서명한 신원 헤더가 있으면 JWT를 다시 파싱하지 않음
+        GatewayIdentityVerifier.Identity identity = gatewayIdentityVerifier.verify(request);
+        if (identity != null) {
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                identity.userId(), null, Collections.singleton(new SimpleGrantedAuthority(identity.role()))
+            );
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         // ⭐ 수정: Authorization 헤더 대신 getJwtFromCookie 호출
         String token = getJwtFromCookie(request);
         log.debug("Extracted Token from Cookie: {}", token != null ? "(present)" : "null");
         // 유효한 토큰이 쿠키에 있는 경우에만 처리
         if(StringUtils.hasText(token)) {
             
-            // TokenProvider에서 예외를 처리하므로, 유효성 검사 실패 시 userId는 null이 됩니다.
-            String userId = tokenProvider.validateAndGetUserId(token);
-            String role = tokenProvider.getRoleFromToken(token); 
+            // TokenProvider에서 예외를 처리하므로, 유효성 검사 실패 시 claims는 null이 됩니다 (서명 검증 1회).
+            TokenProvider.TokenClaims claims = tokenProvider.parse(token);
             
             // 토큰이 유효한 경우에만 인증 객체 설정
-            if(userId != null && role != null) {
-                SimpleGrantedAuthority authority = new SimpleGrantedAuthority(role); 
+            if(claims != null && claims.userId() != null && claims.role() != null) {
+                SimpleGrantedAuthority authority = new SimpleGrantedAuthority(claims.role()); 
 
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    userId, // principal: 사용자 ID (String)
+                    claims.userId(), // principal: 사용자 ID (String)
                     null,   
                     Collections.singleton(authority) 
                 );
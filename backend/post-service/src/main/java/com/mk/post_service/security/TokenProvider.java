@@ -0,0 +1,62 @@
+package com.mk.post_service.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 쿠키(authToken) JWT 검증 (발급은 auth-service).
+ * JwtParser는 불변·스레드 안전이므로 서명 키와 함께 생성 시 한 번만 만들어 모든 요청에서 공유합니다.
+ * 필터는 parse() 한 번으로 userId·role·만료를 함께 얻습니다 (서명 검증·역직렬화 1회).
+ */
+@Slf4j
+@Service
+public class TokenProvider {
+
+    private final JwtParser jwtParser;
+
+    public TokenProvider(@Value("${jwt.secret}") String secretKey) {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+
+    /** 검증된 토큰 클레임. expiresAt은 exp 클레임이 없으면 null */
+    public record TokenClaims(String userId, String role, Instant expiresAt) {
+    }
+
+    /** 서명·만료 검증 후 클레임 반환, 유효하지 않으면 null */
+    public TokenClaims parse(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            return new TokenClaims(
+                    claims.getSubject(),
+                    claims.get("roles", String.class),
+                    expiration != null ? expiration.toInstant() : null
+            );
+        } catch (JwtException e) {
+            log.warn("JWT validation failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public String validateAndGetUserId(String token) {
+        TokenClaims claims = parse(token);
+        return claims != null ? claims.userId() : null;
+    }
+
+    public String getRoleFromToken(String token) {
+        TokenClaims claims = parse(token);
+        return claims != null ? claims.role() : null;
+    }
+}
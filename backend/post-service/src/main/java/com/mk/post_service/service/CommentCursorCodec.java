@@ -0,0 +1,41 @@
+package com.mk.post_service.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 댓글 커서 인코딩/디코딩. 댓글은 작성 순(createdAt, id 오름차순)으로 나열되므로
+ * 마지막으로 내려준 댓글의 (createdAt, id) 쌍을 불투명한 문자열로 감쌉니다.
+ */
+final class CommentCursorCodec {
+
+    private static final String PREFIX = "c:";
+
+    /** 마지막으로 내려준 댓글 위치 */
+    record Position(Instant createdAt, long id) {
+    }
+
+    private CommentCursorCodec() {
+    }
+
+    static String encode(Instant createdAt, Long lastId) {
+        String raw = PREFIX + createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 빈 커서는 첫 페이지(null)로 해석. 형식이 틀리면 InvalidCursorException(400) */
+    static Position decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) throw new IllegalArgumentException("잘못된 커서입니다.");
+            String[] parts = raw.substring(PREFIX.length()).split(":");
+            if (parts.length != 3) throw new IllegalArgumentException("잘못된 커서입니다.");
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new Position(createdAt, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            throw new InvalidCursorException(e);
+        }
+    }
+}
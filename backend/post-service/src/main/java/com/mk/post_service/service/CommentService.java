@@ -3,96 +3,208 @@ package com.mk.post_service.service;
 import com.mk.post_service.dto.*;
 import com.mk.post_service.entity.*;
 import com.mk.post_service.repository.*;
-import org.springframework.core.ParameterizedTypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @Transactional
 public class CommentService {
+    private static final int STREAM_BATCH_SIZE = 500;
+    /** 파라미터 없는 목록 조회의 최대 개수 — 그 이상은 커서·스트리밍 조회 사용 */
+    static final int DEFAULT_LIST_LIMIT = 100;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final WebClient webClient;
-
-    @Value("${USER_SERVICE_URL:http://localhost:8081}")
-    private String userServiceUrl;
+    private final NicknameResolver nicknameResolver;
+    private final ObjectMapper objectMapper;
+    private final ContentVersions contentVersions;
 
-    public CommentService(CommentRepository commentRepository, PostRepository postRepository, WebClient.Builder webClientBuilder) {
+    public CommentService(CommentRepository commentRepository, PostRepository postRepository,
+                          NicknameResolver nicknameResolver, ObjectMapper objectMapper,
+                          ContentVersions contentVersions) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
-        this.webClient = webClientBuilder.build();
+        this.nicknameResolver = nicknameResolver;
+        this.objectMapper = objectMapper;
+        this.contentVersions = contentVersions;
     }
 
-    public CommentResponse createComment(Long postId, CommentRequest request, String authenticatedUserId) {
-        Post post = postRepository.findById(postId).orElseThrow(() -> new RuntimeException("게시글 없음"));
-        
+    /**
+     * 게시글 행 잠금을 짧게 유지하기 위해 comment_count 증가 UPDATE를 트랜잭션의 마지막 문장으로 둡니다.
+     * 닉네임은 반환된 future로 합치며 호출 측이 커밋 뒤에 join 합니다.
+     */
+    public CompletableFuture<CommentResponse> createComment(Long postId, CommentRequest request, String authenticatedUserId) {
+        // 작성자 닉네임 조회를 먼저 시작해 게시글 확인·저장과 겹쳐 진행
+        CompletableFuture<Map<String, String>> nicknames = nicknameResolver.resolveAsync(List.of(authenticatedUserId));
+
+        // 게시글 행(TEXT 본문 포함)은 읽지 않고 PK 존재만 확인, FK는 id만 가진 참조 프록시로 설정
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("게시글 없음");
+        }
+        Post post = postRepository.getReferenceById(postId);
+
         Comment comment = Comment.builder()
                 .content(request.getContent())
                 .authorId(authenticatedUserId)
                 .post(post)
                 .createdAt(Instant.now())
                 .build();
-        
+
         Comment savedComment = commentRepository.save(comment);
-        Map<String, String> nicknameMap = getAuthorNicknamesMap(List.of(authenticatedUserId));
-        return CommentResponse.fromEntity(savedComment, nicknameMap.getOrDefault(authenticatedUserId, "작성자 알 수 없음"));
+        contentVersions.bump(ContentVersions.POSTS); // 목록 카드의 댓글 수 변경
+        CommentResponse res = CommentResponse.fromEntity(savedComment);
+        // 확인 이후 게시글이 삭제됐다면 0행 — 예외로 댓글 저장까지 롤백
+        if (postRepository.addCommentCount(postId, 1L) == 0) {
+            throw new RuntimeException("게시글 없음");
+        }
+        return nicknames.thenApply(nicknameMap -> {
+            res.setAuthorNickname(nicknameMap.getOrDefault(authenticatedUserId, "작성자 알 수 없음"));
+            return res;
+        });
+    }
+
+    /** 파라미터 없는 목록 — 작성 순 앞 DEFAULT_LIST_LIMIT개만 (전체 로딩 방지) */
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<CommentResponse>> getCommentsByPostId(Long postId) {
+        return toResponses(findBatch(postId, null, DEFAULT_LIST_LIMIT));
+    }
+
+    /** 작성 순 페이지 조회 */
+    @Transactional(readOnly = true)
+    public CompletableFuture<Page<CommentResponse>> getCommentsPage(Long postId, Pageable pageable) {
+        Page<Comment> page = commentRepository.findPageByPostId(postId, pageable);
+        return toResponses(page.getContent())
+                .thenApply(content -> new PageImpl<>(content, page.getPageable(), page.getTotalElements()));
+    }
+
+    /** 커서(keyset) 조회 — size + 1개를 읽어 다음 페이지 여부를 판단 */
+    @Transactional(readOnly = true)
+    public CompletableFuture<CursorPage<CommentResponse>> getCommentsAfter(Long postId, String cursor, int size) {
+        List<Comment> comments = findBatch(postId, CommentCursorCodec.decode(cursor), size + 1);
+        boolean hasNext = comments.size() > size;
+        List<Comment> pageComments = hasNext ? comments.subList(0, size) : comments;
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = pageComments.get(pageComments.size() - 1);
+            nextCursor = CommentCursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+        String cursorForNext = nextCursor;
+        return toResponses(pageComments).thenApply(content -> new CursorPage<>(content, cursorForNext, size));
     }
 
-    public List<CommentResponse> getCommentsByPostId(Long postId) {
-        List<Comment> comments = commentRepository.findByPostId(postId);
-        
-        // ⭐ 수정 포인트: 댓글들의 모든 작성자 ID를 추출하여 닉네임을 한꺼번에 조회
+    /**
+     * 스트리밍 조회 — 커서로 STREAM_BATCH_SIZE개씩 읽어 한 줄에 댓글 하나(JSON Lines)씩 쓰고 배치마다 flush 합니다.
+     * 전체 목록을 메모리에 올리지 않으며, 긴 트랜잭션을 피하기 위해 배치마다 별도 쿼리로 실행합니다.
+     * 배치는 엔티티가 아닌 프로젝션으로 읽어 OSIV EntityManager에 쌓이지 않게 합니다.
+     * 닉네임은 스트림 안에서 처음 보는 작성자만 비동기로 조회하고, 그동안 다음 배치를 DB에서 읽습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeComments(Long postId, OutputStream out) throws IOException {
+        Map<String, String> nicknames = new HashMap<>();
+        List<CommentProjection> batch = findProjectionBatch(postId, null);
+        while (!batch.isEmpty()) {
+            List<String> unseen = batch.stream()
+                    .map(CommentProjection::getAuthorId)
+                    .filter(id -> !nicknames.containsKey(id))
+                    .distinct()
+                    .collect(Collectors.toList());
+            CompletableFuture<Map<String, String>> pending = nicknameResolver.resolveAsync(unseen);
+
+            List<CommentProjection> next = List.of();
+            if (batch.size() == STREAM_BATCH_SIZE) {
+                CommentProjection last = batch.get(batch.size() - 1);
+                next = findProjectionBatch(postId, new CommentCursorCodec.Position(last.getCreatedAt(), last.getId()));
+            }
+
+            Map<String, String> resolved = pending.join();
+            for (String id : unseen) {
+                nicknames.put(id, resolved.getOrDefault(id, "작성자 알 수 없음"));
+            }
+            for (CommentProjection comment : batch) {
+                CommentResponse response = CommentResponse.builder()
+                        .id(comment.getId())
+                        .content(comment.getContent())
+                        .authorId(comment.getAuthorId())
+                        .authorNickname(nicknames.get(comment.getAuthorId()))
+                        .createdAt(comment.getCreatedAt())
+                        .build();
+                out.write(objectMapper.writeValueAsBytes(response));
+                out.write('\n');
+            }
+            out.flush();
+            batch = next;
+        }
+    }
+
+    private List<CommentProjection> findProjectionBatch(Long postId, CommentCursorCodec.Position position) {
+        PageRequest pageRequest = PageRequest.of(0, STREAM_BATCH_SIZE);
+        return position == null
+                ? commentRepository.findFirstProjectionsByPostId(postId, pageRequest)
+                : commentRepository.findProjectionsByPostIdAfter(postId, position.createdAt(), position.id(), pageRequest);
+    }
+
+    private List<Comment> findBatch(Long postId, CommentCursorCodec.Position position, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        return position == null
+                ? commentRepository.findFirstPageByPostId(postId, pageRequest)
+                : commentRepository.findPageByPostIdAfter(postId, position.createdAt(), position.id(), pageRequest);
+    }
+
+    /**
+     * 작성자 ID를 모아 닉네임을 한꺼번에 조회하고 Response DTO 생성.
+     * DTO는 트랜잭션 안에서 만들고 닉네임은 future로 채우므로, 호출 측은 트랜잭션 종료(커넥션 반납) 뒤에 join 합니다.
+     */
+    private CompletableFuture<List<CommentResponse>> toResponses(List<Comment> comments) {
         List<String> authorIds = comments.stream()
                 .map(Comment::getAuthorId)
                 .distinct()
                 .collect(Collectors.toList());
+        CompletableFuture<Map<String, String>> nicknames = nicknameResolver.resolveAsync(authorIds);
 
-        Map<String, String> nicknameMap = getAuthorNicknamesMap(authorIds);
-
-        // 닉네임과 함께 Response DTO 생성
-        return comments.stream()
-                .map(comment -> {
-                    String nickname = nicknameMap.getOrDefault(comment.getAuthorId(), "작성자 알 수 없음");
-                    return CommentResponse.fromEntity(comment, nickname);
-                })
+        List<CommentResponse> responses = comments.stream()
+                .map(CommentResponse::fromEntity)
                 .collect(Collectors.toList());
+        return nicknames.thenApply(nicknameMap -> {
+            for (CommentResponse res : responses) {
+                res.setAuthorNickname(nicknameMap.getOrDefault(res.getAuthorId(), "작성자 알 수 없음"));
+            }
+            return responses;
+        });
     }
 
-    public CommentResponse updateComment(Long commentId, CommentRequest request, String authenticatedUserId) {
+    public CompletableFuture<CommentResponse> updateComment(Long commentId, CommentRequest request, String authenticatedUserId) {
         Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new RuntimeException("댓글 없음"));
         if (!comment.getAuthorId().equals(authenticatedUserId)) throw new RuntimeException("권한 없음");
 
         comment.setContent(request.getContent());
-        Map<String, String> nicknameMap = getAuthorNicknamesMap(List.of(authenticatedUserId));
-        return CommentResponse.fromEntity(comment, nicknameMap.getOrDefault(authenticatedUserId, "작성자 알 수 없음"));
+        // 응답 DTO는 트랜잭션 안에서 만들고 닉네임은 커밋 뒤 호출 측 join 시점에 합침
+        CommentResponse res = CommentResponse.fromEntity(comment);
+        return nicknameResolver.resolveAsync(List.of(authenticatedUserId)).thenApply(nicknameMap -> {
+            res.setAuthorNickname(nicknameMap.getOrDefault(authenticatedUserId, "작성자 알 수 없음"));
+            return res;
+        });
     }
 
     public void deleteComment(Long commentId, String authenticatedUserId) {
         Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new RuntimeException("댓글 없음"));
         if (!comment.getAuthorId().equals(authenticatedUserId)) throw new RuntimeException("권한 없음");
         commentRepository.delete(comment);
-    }
-
-    private Map<String, String> getAuthorNicknamesMap(List<String> authorIds) {
-        if (authorIds.isEmpty()) return Collections.emptyMap();
-        try {
-            return webClient.post()
-                    .uri(userServiceUrl + "/user/api/users/nicknames")
-                    .bodyValue(authorIds)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, String>>() {})
-                    .block();
-        } catch (Exception e) {
-            log.error("User Service 연결 실패: {}", e.getMessage());
-            return Collections.emptyMap();
-        }
+        postRepository.addCommentCount(comment.getPost().getId(), -1L);
+        contentVersions.bump(ContentVersions.POSTS);
     }
 }
\ No newline at end of file
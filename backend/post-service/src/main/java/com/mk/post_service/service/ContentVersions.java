@@ -0,0 +1,104 @@
+package com.mk.post_service.service;
+
+import com.mk.post_service.repository.ContentVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 목록 응답의 조건부 GET용 전역 버전 (content_versions 테이블).
+ * - POSTS: 게시글 작성·수정·삭제, 댓글 작성·삭제 (목록 카드의 본문 요약·댓글 수 변경)
+ * - TAXONOMY: 게시글 작성·수정·삭제 (카테고리/태그 목록과 post_count 변경)
+ * 조회수는 포함하지 않으므로 304 응답의 viewCount는 캐시 시점 값일 수 있습니다.
+ * 버전 행은 전역 하나이므로 쓰기 트랜잭션 안에서 갱신하면 모든 쓰기가 그 행 잠금에 줄을 섭니다.
+ * 그래서 증가는 커밋 후 별도의 짧은 트랜잭션에서 하며, 커밋과 증가 사이의 짧은 순간에는 이전 ETag로 304가 나갈 수 있습니다.
+ * 커밋 후 증가가 실패하면 해당 버전을 stale로 표시해, 이후 증가가 성공할 때까지 이 인스턴스는 조건부 처리를 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ContentVersions {
+
+    public static final String POSTS = "posts";
+    public static final String TAXONOMY = "taxonomy";
+
+    /** ETag·Last-Modified 계산용 스냅샷 (Last-Modified는 초 단위) */
+    public record Version(long version, Instant updatedAt) {
+
+        public String etag(String prefix) {
+            return "W/\"" + prefix + "-" + version + "\"";
+        }
+
+        public long lastModifiedMillis() {
+            return updatedAt.truncatedTo(ChronoUnit.SECONDS).toEpochMilli();
+        }
+    }
+
+    private final ContentVersionRepository contentVersionRepository;
+    private final TransactionTemplate bumpTransaction;
+    /** 커밋 후 증가에 실패한 버전 — 다음 증가가 성공할 때까지 current()가 null을 돌려줌 */
+    private final Set<String> staleNames = ConcurrentHashMap.newKeySet();
+
+    public ContentVersions(ContentVersionRepository contentVersionRepository, PlatformTransactionManager transactionManager) {
+        this.contentVersionRepository = contentVersionRepository;
+        this.bumpTransaction = new TransactionTemplate(transactionManager);
+        this.bumpTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** 버전 증가. 트랜잭션 안에서 호출되면 커밋 후(롤백 시에는 하지 않음) 별도 트랜잭션으로 실행 */
+    public void bump(String... names) {
+        List<String> targets = List.of(names);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bumpNow(targets);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    bumpNow(targets);
+                } catch (Exception e) {
+                    // 쓰기는 이미 커밋됨 — 요청은 실패시키지 않되, 이전 ETag로 304가 나가지 않도록 조건부 처리를 끔
+                    staleNames.addAll(targets);
+                    log.warn("content version 증가 실패 {}: {}", targets, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void bumpNow(List<String> names) {
+        bumpTransaction.executeWithoutResult(status -> contentVersionRepository.bump(names, Instant.now()));
+        staleNames.removeAll(names);
+    }
+
+    /** 현재 버전. 행이 아직 없거나(기동 직후) 증가 실패로 stale이면 null — 호출 측은 조건부 처리를 건너뜀 */
+    @Transactional(readOnly = true)
+    public Version current(String name) {
+        if (staleNames.contains(name)) return null;
+        return contentVersionRepository.findById(name)
+                .map(v -> new Version(v.getVersion(), v.getUpdatedAt()))
+                .orElse(null);
+    }
+
+    /** 기동 시 버전 행이 없으면 생성 (이미 있으면 그대로 둠) */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureRows() {
+        Instant now = Instant.now();
+        for (String name : List.of(POSTS, TAXONOMY)) {
+            contentVersionRepository.insertIfAbsent(name, now);
+        }
+    }
+}
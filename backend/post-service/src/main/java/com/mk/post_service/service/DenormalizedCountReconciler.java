@@ -0,0 +1,58 @@
+package com.mk.post_service.service;
+
+import com.mk.post_service.repository.CategoryRepository;
+import com.mk.post_service.repository.PostRepository;
+import com.mk.post_service.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 비정규화 컬럼(Category/Tag.post_count, Post.comment_count, Post.excerpt) 백필·재집계.
+ * - 기동 시: 컬럼 도입 직후처럼 값이 비어 있는(0·NULL) 행만 채웁니다. 대부분의 기동에서는 갱신 행이 없어
+ *   모든 행을 잠그지 않으며, 동시 증감으로 이미 0이 아닌 행은 건드리지 않습니다.
+ * - 오차 보정: post.count-recount.cron(기본 비활성 "-")을 지정하면 한산한 시간대에 실제 값과 다른 행만
+ *   재집계합니다. advisory lock으로 여러 인스턴스 중 하나만 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DenormalizedCountReconciler {
+
+    /** pg advisory lock 키 (post-service 카운트 재집계 전용) */
+    private static final long RECOUNT_LOCK_KEY = 0x706f7374636e74L;
+
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final PostRepository postRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int categories = categoryRepository.backfillPostCounts();
+        int tags = tagRepository.backfillPostCounts();
+        int posts = postRepository.backfillCommentCounts();
+        int excerpts = postRepository.backfillExcerpts();
+        if (categories + tags + posts + excerpts > 0) {
+            log.info("비정규화 컬럼 백필: 카테고리 {}개, 태그 {}개, 게시글 comment_count {}개, excerpt {}개",
+                    categories, tags, posts, excerpts);
+        }
+    }
+
+    @Transactional
+    @Scheduled(cron = "${post.count-recount.cron:-}")
+    public void recount() {
+        if (!postRepository.tryAdvisoryXactLock(RECOUNT_LOCK_KEY)) {
+            log.debug("카운트 재집계: 다른 인스턴스에서 실행 중");
+            return;
+        }
+        int categories = categoryRepository.recountPostCounts();
+        int tags = tagRepository.recountPostCounts();
+        int posts = postRepository.recountCommentCounts();
+        log.info("카운트 재집계 완료 (보정 행): 카테고리 {}개, 태그 {}개, 게시글 comment_count {}개", categories, tags, posts);
+    }
+}
@@ -0,0 +1,15 @@
+package com.mk.post_service.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 클라이언트가 보낸 after 커서를 해석할 수 없을 때 (400 Bad Request).
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST, reason = "잘못된 커서입니다.")
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(Throwable cause) {
+        super("잘못된 커서입니다.", cause);
+    }
+}
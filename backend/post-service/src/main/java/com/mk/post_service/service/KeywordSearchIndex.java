@@ -0,0 +1,211 @@
+package com.mk.post_service.service;
+
+import com.mk.post_service.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 키워드 검색용 인메모리 역색인 (BM25 랭킹).
+ * 기동 시 DB 전체를 색인하고, 작성·수정·삭제는 커밋 후 증분 반영합니다.
+ * 재색인 중에 들어온 증분은 기존 색인에 반영하는 동시에 버퍼에 모았다가, 교체 직전 새 색인에 다시 적용하므로 유실되지 않습니다.
+ * 다른 인스턴스의 작성·수정·삭제를 맞추는 주기적 전체 재색인은 본문 전체를 다시 읽으므로 기본 비활성이며,
+ * 여러 인스턴스로 운영할 때 post.keyword-index.periodic-rebuild=true 로 켭니다 (주기: post.keyword-index.rebuild-interval-ms).
+ * 제목 토큰은 TITLE_WEIGHT 배로 가중합니다. 본문은 저장하지 않으며 snippet은 결과 id로 DB에서 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    public record Hit(Long postId, double score) {
+    }
+
+    private final PostRepository postRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile IndexData data = new IndexData();
+    private volatile boolean ready = false;
+    /** 재색인 진행 중 반영된 증분 (쓰기 락으로 보호, 재색인 중이 아니면 null) */
+    private List<Consumer<IndexData>> pendingDuringRebuild;
+
+    @Value("${post.keyword-index.periodic-rebuild:false}")
+    private boolean periodicRebuild;
+
+    /** 전체 재색인이 한 번이라도 끝났는지 (그 전에는 LIKE 검색으로 대체) */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Hit> search(String query, int limit) {
+        List<String> terms = KeywordTokenizer.tokenize(query);
+        if (terms.isEmpty()) return Collections.emptyList();
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            IndexData d = data;
+            int n = d.docLengths.size();
+            if (n == 0) return Collections.emptyList();
+            double avgLength = (double) d.totalLength / n;
+            for (String term : new LinkedHashSet<>(terms)) {
+                Map<Long, Integer> postings = d.postings.get(term);
+                if (postings == null) continue;
+                double idf = Math.log(1 + (n - postings.size() + 0.5) / (postings.size() + 0.5));
+                for (Map.Entry<Long, Integer> posting : postings.entrySet()) {
+                    int tf = posting.getValue();
+                    int length = d.docLengths.get(posting.getKey());
+                    double norm = tf + K1 * (1 - B + B * length / avgLength);
+                    scores.merge(posting.getKey(), idf * tf * (K1 + 1) / norm, Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(limit)
+                .map(e -> new Hit(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    /** 작성·수정 반영 (트랜잭션 안이면 커밋 후) */
+    public void indexAfterCommit(Long postId, String title, String content) {
+        runAfterCommit(() -> apply(d -> {
+            d.remove(postId);
+            d.add(postId, title, content);
+        }));
+    }
+
+    /** 삭제 반영 (트랜잭션 안이면 커밋 후) */
+    public void removeAfterCommit(Long postId) {
+        runAfterCommit(() -> apply(d -> d.remove(postId)));
+    }
+
+    /** 다른 인스턴스 변경분 보정용 주기 재색인 (post.keyword-index.periodic-rebuild=true 일 때만) */
+    @Scheduled(initialDelayString = "${post.keyword-index.rebuild-interval-ms:600000}",
+               fixedDelayString = "${post.keyword-index.rebuild-interval-ms:600000}")
+    public void periodicRebuild() {
+        if (periodicRebuild) rebuild();
+    }
+
+    /** DB 전체를 id 순 배치로 읽어 새 색인을 만든 뒤, 그동안의 증분을 다시 적용하고 교체 */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            IndexData fresh = new IndexData();
+            long after = 0L;
+            while (true) {
+                List<Object[]> rows = postRepository.findIndexRowsAfter(after, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    fresh.add((Long) row[0], (String) row[1], (String) row[2]);
+                }
+                if (rows.size() < REBUILD_BATCH_SIZE) break;
+                after = (Long) rows.get(rows.size() - 1)[0];
+            }
+            int replayed;
+            lock.writeLock().lock();
+            try {
+                replayed = pendingDuringRebuild.size();
+                pendingDuringRebuild.forEach(op -> op.accept(fresh));
+                data = fresh;
+            } finally {
+                pendingDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("키워드 색인 재구성 완료: 게시글 {}개, 토큰 {}개 (재적용 증분 {}건)",
+                    fresh.docLengths.size(), fresh.postings.size(), replayed);
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("키워드 색인 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 현재 색인에 증분 반영, 재색인 중이면 새 색인에 다시 적용하도록 기록 */
+    private void apply(Consumer<IndexData> op) {
+        lock.writeLock().lock();
+        try {
+            op.accept(data);
+            if (pendingDuringRebuild != null) pendingDuringRebuild.add(op);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /** 역색인 본체 — term → (postId → 가중 tf), 문서 길이, 삭제용 문서별 term 목록 */
+    private static final class IndexData {
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, Integer> docLengths = new HashMap<>();
+        private final Map<Long, Set<String>> docTerms = new HashMap<>();
+        private long totalLength = 0L;
+
+        void add(Long postId, String title, String content) {
+            Map<String, Integer> tf = new HashMap<>();
+            for (String token : KeywordTokenizer.tokenize(title)) tf.merge(token, TITLE_WEIGHT, Integer::sum);
+            for (String token : KeywordTokenizer.tokenize(content)) tf.merge(token, 1, Integer::sum);
+
+            int length = tf.values().stream().mapToInt(Integer::intValue).sum();
+            for (Map.Entry<String, Integer> e : tf.entrySet()) {
+                postings.computeIfAbsent(e.getKey(), k -> new HashMap<>()).put(postId, e.getValue());
+            }
+            docLengths.put(postId, length);
+            docTerms.put(postId, tf.keySet());
+            totalLength += length;
+        }
+
+        void remove(Long postId) {
+            Set<String> terms = docTerms.remove(postId);
+            if (terms == null) return;
+            for (String term : terms) {
+                Map<Long, Integer> p = postings.get(term);
+                if (p == null) continue;
+                p.remove(postId);
+                if (p.isEmpty()) postings.remove(term);
+            }
+            Integer length = docLengths.remove(postId);
+            if (length != null) totalLength -= length;
+        }
+    }
+}
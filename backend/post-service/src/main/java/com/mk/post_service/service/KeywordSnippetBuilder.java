@@ -0,0 +1,73 @@
+package com.mk.post_service.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 검색 결과 snippet 생성.
+ * 본문에서 검색 토큰이 처음 등장하는 위치 주변 SNIPPET_LENGTH 글자를 잘라내고,
+ * snippet 안에서 토큰이 일치하는 구간을 [start, end) 오프셋 목록으로 함께 돌려줍니다(겹치는 2-gram은 병합).
+ * snippet 자체는 일반 텍스트로 유지하여 기존 클라이언트가 그대로 표시할 수 있습니다.
+ */
+final class KeywordSnippetBuilder {
+
+    static final int SNIPPET_LENGTH = 200;
+    private static final int LEADING_CONTEXT = 60;
+    private static final String ELLIPSIS = "...";
+
+    record Snippet(String text, List<int[]> highlights) {
+    }
+
+    private KeywordSnippetBuilder() {
+    }
+
+    static Snippet build(String content, Collection<String> terms) {
+        String text = content != null ? content : "";
+        String lower = lowerPreservingLength(text);
+
+        int first = -1;
+        for (String term : terms) {
+            int idx = lower.indexOf(term);
+            if (idx >= 0 && (first < 0 || idx < first)) first = idx;
+        }
+
+        int start = first > LEADING_CONTEXT ? first - LEADING_CONTEXT : 0;
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        String prefix = start > 0 ? ELLIPSIS : "";
+        String suffix = end < text.length() ? ELLIPSIS : "";
+
+        List<int[]> ranges = new ArrayList<>();
+        String window = lower.substring(start, end);
+        for (String term : terms) {
+            for (int idx = window.indexOf(term); idx >= 0; idx = window.indexOf(term, idx + 1)) {
+                ranges.add(new int[]{idx + prefix.length(), idx + prefix.length() + term.length()});
+            }
+        }
+        return new Snippet(prefix + text.substring(start, end) + suffix, merge(ranges));
+    }
+
+    private static List<int[]> merge(List<int[]> ranges) {
+        ranges.sort(Comparator.comparingInt(r -> r[0]));
+        List<int[]> merged = new ArrayList<>();
+        for (int[] range : ranges) {
+            int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] <= last[1]) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(new int[]{range[0], range[1]});
+            }
+        }
+        return merged;
+    }
+
+    /** 문자 단위 소문자화 — 원문과 인덱스가 어긋나지 않도록 길이를 유지 */
+    private static String lowerPreservingLength(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
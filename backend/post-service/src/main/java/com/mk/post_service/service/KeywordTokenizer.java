@@ -0,0 +1,58 @@
+package com.mk.post_service.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 키워드 검색용 토크나이저.
+ * 글자/숫자 연속 구간을 문자 종류별로 나눈 뒤, 한글·한자·가나 구간은 2-gram(한 글자면 그대로),
+ * 그 외(영문·숫자) 구간은 소문자 단어 하나로 토큰화합니다.
+ * 형태소 분석기 없이도 "스프링부트" 검색이 "스프링 부트"/"스프링부트를" 등과 매칭되도록 하기 위함입니다.
+ */
+final class KeywordTokenizer {
+
+    private KeywordTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int runStart = -1;
+        boolean runCjk = false;
+        for (int i = 0; i <= lower.length(); i++) {
+            char ch = i < lower.length() ? lower.charAt(i) : ' ';
+            boolean wordChar = Character.isLetterOrDigit(ch);
+            boolean cjk = wordChar && isCjk(ch);
+            if (runStart >= 0 && (!wordChar || cjk != runCjk)) {
+                emit(lower, runStart, i, runCjk, tokens);
+                runStart = -1;
+            }
+            if (wordChar && runStart < 0) {
+                runStart = i;
+                runCjk = cjk;
+            }
+        }
+        return tokens;
+    }
+
+    private static void emit(String text, int start, int end, boolean cjk, List<String> tokens) {
+        if (!cjk || end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isCjk(char ch) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(ch);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
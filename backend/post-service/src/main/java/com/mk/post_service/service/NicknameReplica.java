@@ -0,0 +1,106 @@
+package com.mk.post_service.service;
+
+import com.mk.post_service.event.UserNicknameEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * user-service 닉네임의 로컬 복제본 (authorId → nickname).
+ * user-nickname-topic(키 = userId, compact)을 그룹 없이 모든 파티션(post.nickname-replica.partitions, 기본 0-2)을
+ * 할당받아 오프셋 0부터 재생하므로, 스냅샷과 리스너 연결 사이에 발행된 변경도 빠짐없이 반영됩니다.
+ * 기동 시 user-service 스냅샷 API도 페이지 단위로 읽어 토픽 재생이 끝나기 전에 빠르게 채웁니다.
+ * 재생되는 이벤트가 키별 최신 값으로 끝나므로 스냅샷은 putIfAbsent로만 반영합니다.
+ * 복제본에 없는 ID는 NicknameResolver가 기존처럼 user-service에 직접 묻습니다.
+ */
+@Slf4j
+@Component
+public class NicknameReplica {
+
+    private record SnapshotPage(Map<String, String> nicknames, String next) {
+    }
+
+    private static final int SNAPSHOT_PAGE_SIZE = 1000;
+
+    private final WebClient webClient;
+    private final ConcurrentHashMap<String, String> nicknames = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    @Value("${USER_SERVICE_URL:http://localhost:8081}")
+    private String userServiceUrl;
+
+    @Value("${post.nickname-replica.enabled:true}")
+    private boolean enabled;
+
+    public NicknameReplica(WebClient.Builder webClientBuilder) {
+        this.webClient = webClientBuilder.build();
+    }
+
+    /** 스냅샷 로드가 끝났는지 */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 복제된 닉네임 (없으면 null) */
+    public String get(String authorId) {
+        return nicknames.get(authorId);
+    }
+
+    @KafkaListener(id = "nicknameReplica", idIsGroup = false,
+                   topicPartitions = @TopicPartition(topic = "user-nickname-topic",
+                           partitions = "${post.nickname-replica.partitions:0-2}",
+                           partitionOffsets = @PartitionOffset(partition = "*", initialOffset = "0")),
+                   containerFactory = "nicknameListenerContainerFactory",
+                   autoStartup = "${post.nickname-replica.enabled:true}")
+    public void onNicknameEvent(UserNicknameEvent event) {
+        if (event == null || event.getId() == null) return;
+        if (event.getNickname() == null) {
+            nicknames.remove(event.getId());
+        } else {
+            nicknames.put(event.getId(), event.getNickname());
+        }
+    }
+
+    /** 기동 시 user-service 스냅샷으로 복제본을 채움. 실패하면 NicknameResolver의 원격 조회로 대체됩니다 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!enabled) return;
+        try {
+            String after = null;
+            do {
+                SnapshotPage page = fetchSnapshot(after);
+                if (page == null || page.nicknames() == null) break;
+                page.nicknames().forEach(nicknames::putIfAbsent);
+                after = page.next();
+            } while (after != null);
+            ready = true;
+            log.info("닉네임 복제본 부트스트랩 완료: {}명", nicknames.size());
+        } catch (Exception e) {
+            log.warn("닉네임 복제본 부트스트랩 실패: {}", e.getMessage());
+        }
+    }
+
+    private SnapshotPage fetchSnapshot(String after) {
+        return webClient.get()
+                .uri(userServiceUrl + "/user/api/users/nicknames/snapshot", uriBuilder -> uriBuilder
+                        .queryParam("size", SNAPSHOT_PAGE_SIZE)
+                        .queryParamIfPresent("after", Optional.ofNullable(after))
+                        .build())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<SnapshotPage>() {})
+                .timeout(Duration.ofSeconds(10))
+                .block();
+    }
+}
@@ -0,0 +1,141 @@
+package com.mk.post_service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 작성자 ID → 닉네임 해석 (PostService, CommentService 공용).
+ * Kafka로 복제된 NicknameReplica를 먼저 보고, 복제본에 없는 ID만 user-service에 묻습니다.
+ * user-service 응답을 크기·TTL 제한이 있는 로컬 캐시에 보관하고, 캐시에 없는 ID만 모아서 한 번에 요청합니다.
+ * user-service가 모르는 ID도 짧은 TTL로 음수 캐싱하여 반복 조회를 막습니다. 통신 실패 결과는 캐싱하지 않습니다.
+ * resolveAsync는 원격 조회를 WebClient 이벤트 루프에 맡기고 바로 반환하므로, 호출 측은 남은 DB 조회를
+ * 진행한 뒤 결과를 합칠 수 있습니다. 원격 조회는 2초 타임아웃이며 실패 시 빈 결과로 완료됩니다.
+ */
+@Slf4j
+@Component
+public class NicknameResolver {
+
+    private record CachedNickname(String nickname, long expiresAt) {
+    }
+
+    private final WebClient webClient;
+    private final NicknameReplica replica;
+    private final ConcurrentHashMap<String, CachedNickname> cache = new ConcurrentHashMap<>();
+    private final Counter replicaCounter;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Value("${USER_SERVICE_URL:http://localhost:8081}")
+    private String userServiceUrl;
+
+    @Value("${post.nickname-cache.ttl-ms:300000}")
+    private long ttlMillis;
+
+    @Value("${post.nickname-cache.negative-ttl-ms:30000}")
+    private long negativeTtlMillis;
+
+    @Value("${post.nickname-cache.max-size:10000}")
+    private int maxSize;
+
+    public NicknameResolver(WebClient.Builder webClientBuilder, NicknameReplica replica, MeterRegistry meterRegistry) {
+        this.webClient = webClientBuilder.build();
+        this.replica = replica;
+        this.replicaCounter = Counter.builder("post.nickname_cache.requests").tag("result", "replica")
+                .description("닉네임 조회 (복제본 히트)").register(meterRegistry);
+        this.hitCounter = Counter.builder("post.nickname_cache.requests").tag("result", "hit")
+                .description("닉네임 캐시 조회 (히트)").register(meterRegistry);
+        this.missCounter = Counter.builder("post.nickname_cache.requests").tag("result", "miss")
+                .description("닉네임 캐시 조회 (미스)").register(meterRegistry);
+        Gauge.builder("post.nickname_cache.size", cache, Map::size)
+                .description("닉네임 캐시 항목 수").register(meterRegistry);
+    }
+
+    /** 닉네임 맵 반환. 알 수 없는 ID는 결과에 포함되지 않습니다(호출 측 기본값 사용). */
+    public Map<String, String> resolve(Collection<String> authorIds) {
+        return resolveAsync(authorIds).join();
+    }
+
+    /** 복제본·캐시 히트는 즉시, 나머지는 user-service 응답이 오면 완료되는 닉네임 맵 */
+    public CompletableFuture<Map<String, String>> resolveAsync(Collection<String> authorIds) {
+        if (authorIds.isEmpty()) return CompletableFuture.completedFuture(Collections.emptyMap());
+
+        long now = System.currentTimeMillis();
+        Map<String, String> result = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(authorIds)) {
+            String replicated = replica.get(id);
+            if (replicated != null) {
+                replicaCounter.increment();
+                result.put(id, replicated);
+                continue;
+            }
+            CachedNickname cached = cache.get(id);
+            if (cached != null && cached.expiresAt() > now) {
+                hitCounter.increment();
+                if (cached.nickname() != null) result.put(id, cached.nickname());
+            } else {
+                missCounter.increment();
+                misses.add(id);
+            }
+        }
+        if (misses.isEmpty()) return CompletableFuture.completedFuture(result);
+
+        return fetch(misses).thenApply(fetched -> {
+            if (fetched == null) return result;
+            long fetchedAt = System.currentTimeMillis();
+            for (String id : misses) {
+                String nickname = fetched.get(id);
+                if (nickname != null) {
+                    cache.put(id, new CachedNickname(nickname, fetchedAt + ttlMillis));
+                    result.put(id, nickname);
+                } else {
+                    cache.put(id, new CachedNickname(null, fetchedAt + negativeTtlMillis));
+                }
+            }
+            evictIfFull(fetchedAt);
+            return result;
+        });
+    }
+
+    /** 닉네임 변경 등으로 특정 ID를 즉시 무효화 */
+    public void evict(String authorId) {
+        cache.remove(authorId);
+    }
+
+    /** user-service 비동기 호출. 실패 시 null로 완료 (캐싱하지 않음) */
+    private CompletableFuture<Map<String, String>> fetch(List<String> authorIds) {
+        return webClient.post()
+                .uri(userServiceUrl + "/user/api/users/nicknames")
+                .bodyValue(authorIds)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, String>>() {})
+                .timeout(Duration.ofSeconds(2))
+                .toFuture()
+                .exceptionally(e -> {
+                    log.error("User Service 통신 실패: {}", e.getMessage());
+                    return null;
+                });
+    }
+
+    /** 최대 크기 초과 시 만료 항목부터, 그래도 넘치면 임의 항목을 제거 */
+    private void evictIfFull(long now) {
+        if (cache.size() <= maxSize) return;
+        cache.entrySet().removeIf(e -> e.getValue().expiresAt() <= now);
+        Iterator<String> it = cache.keySet().iterator();
+        while (cache.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
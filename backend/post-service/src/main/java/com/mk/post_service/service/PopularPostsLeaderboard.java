@@ -0,0 +1,169 @@
+package com.mk.post_service.service;
+
+import com.mk.post_service.event.ViewCountsFlushedEvent;
+import com.mk.post_service.repository.PostRepository;
+import com.mk.post_service.repository.PostViewHourlyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 인기글 리더보드 (메인 페이지 /api/posts/popular).
+ * - 누적(all): 상위 capacity개 (postId, viewCount) 스냅샷을 유지합니다. 조회수 flush 때마다 갱신된 게시글의 현재 조회수만
+ *   기존 스냅샷과 합쳐 다시 자르므로, 스냅샷 밖의 게시글은 갱신되지 않는 한 순위에 들어올 수 없다는 점을 이용합니다.
+ * - 트렌딩(24h/7d): 모든 인스턴스가 조회수 flush 때 함께 쌓는 시간 버킷 테이블(post_view_hourly)을 반감기(윈도우의 1/4)로
+ *   감쇠한 점수로 DB에서 집계합니다. 인스턴스마다 자기 트래픽만 보지 않도록 메모리 버킷을 두지 않으며,
+ *   보정 주기(post.popular.reconcile-interval-ms)마다 다시 계산하므로 그만큼 늦게 반영됩니다.
+ * 조회는 미리 계산된 불변 리스트를 읽으므로 O(K)이며, 누적 순위도 같은 주기로 DB ORDER BY view_count 결과로 보정합니다.
+ */
+@Slf4j
+@Component
+public class PopularPostsLeaderboard {
+
+    public enum Window {
+        ALL(null), DAY(Duration.ofHours(24)), WEEK(Duration.ofDays(7));
+
+        private final Duration length;
+
+        Window(Duration length) {
+            this.length = length;
+        }
+
+        /** 쿼리 파라미터(all | 24h | 7d) 해석 */
+        public static Window from(String value) {
+            if (value == null) return ALL;
+            return switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "24h", "day" -> DAY;
+                case "7d", "week" -> WEEK;
+                default -> ALL;
+            };
+        }
+    }
+
+    private record Entry(Long postId, double score) {
+    }
+
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+    private static final Comparator<Entry> BY_SCORE_DESC =
+            Comparator.comparingDouble(Entry::score).reversed().thenComparing(Entry::postId, Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+    private final PostViewHourlyRepository postViewHourlyRepository;
+    private final int capacity;
+
+    /** 누적 조회수 상위 스냅샷 (불변 리스트 교체) */
+    private volatile List<Entry> allTime = List.of();
+    /** 윈도우별 트렌딩 스냅샷 (불변 맵 교체) */
+    private volatile Map<Window, List<Entry>> trending = Map.of(Window.DAY, List.of(), Window.WEEK, List.of());
+    private volatile boolean ready = false;
+
+    public PopularPostsLeaderboard(
+            PostRepository postRepository,
+            PostViewHourlyRepository postViewHourlyRepository,
+            @Value("${post.popular.capacity:50}") int capacity
+    ) {
+        this.postRepository = postRepository;
+        this.postViewHourlyRepository = postViewHourlyRepository;
+        this.capacity = capacity;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 상위 limit개 게시글 id (O(limit)) */
+    public List<Long> topIds(Window window, int limit) {
+        List<Entry> source = window == Window.ALL ? allTime : trending.get(window);
+        return source.stream().limit(limit).map(Entry::postId).collect(Collectors.toList());
+    }
+
+    /**
+     * 스냅샷이 준비되기 전(기동 직후·보정 실패) 대체 경로 — 같은 윈도우의 순위를 DB에서 바로 계산.
+     * 트렌딩 윈도우에 누적 순위를 돌려주지 않도록 윈도우별로 같은 기준을 사용합니다.
+     */
+    public List<Long> topIdsFromDb(Window window, int limit) {
+        if (window == Window.ALL) {
+            return postRepository.findTopIdsByViewCount(PageRequest.of(0, limit));
+        }
+        return trendingFromDb(window, System.currentTimeMillis() / HOUR_MILLIS, limit).stream()
+                .map(Entry::postId)
+                .collect(Collectors.toList());
+    }
+
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        Map<Long, Long> deltas = event.getDeltas();
+        if (deltas.isEmpty()) return;
+
+        Map<Long, Long> current = new HashMap<>();
+        for (Object[] row : postRepository.findViewCountsByIdIn(deltas.keySet())) {
+            current.put((Long) row[0], (Long) row[1]);
+        }
+        synchronized (this) {
+            Map<Long, Double> merged = new HashMap<>();
+            for (Entry e : allTime) merged.put(e.postId(), e.score());
+            current.forEach((id, count) -> merged.put(id, count.doubleValue()));
+            allTime = topOf(merged);
+        }
+    }
+
+    /** 삭제된 게시글 제거 */
+    public synchronized void remove(Long postId) {
+        allTime = allTime.stream().filter(e -> !e.postId().equals(postId)).toList();
+        Map<Window, List<Entry>> filtered = new EnumMap<>(Window.class);
+        trending.forEach((window, entries) ->
+                filtered.put(window, entries.stream().filter(e -> !e.postId().equals(postId)).toList()));
+        trending = Map.copyOf(filtered);
+    }
+
+    /** DB 기준으로 누적·트렌딩 순위를 다시 계산 (기동 시 + post.popular.reconcile-interval-ms 주기, 기본 1분) */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${post.popular.reconcile-interval-ms:60000}",
+               fixedDelayString = "${post.popular.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            List<Entry> fresh = postRepository.findTopViewCounts(PageRequest.of(0, capacity)).stream()
+                    .map(row -> new Entry((Long) row[0], ((Long) row[1]).doubleValue()))
+                    .sorted(BY_SCORE_DESC)
+                    .toList();
+            long currentHour = System.currentTimeMillis() / HOUR_MILLIS;
+            Map<Window, List<Entry>> freshTrending = new EnumMap<>(Window.class);
+            for (Window window : List.of(Window.DAY, Window.WEEK)) {
+                freshTrending.put(window, trendingFromDb(window, currentHour, capacity));
+            }
+            synchronized (this) {
+                allTime = fresh;
+                trending = Map.copyOf(freshTrending);
+            }
+            ready = true;
+            postViewHourlyRepository.deleteUpTo(currentHour - Window.WEEK.length.toHours());
+        } catch (Exception e) {
+            log.warn("인기글 리더보드 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 윈도우 내 시간 버킷을 반감기(윈도우의 1/4)로 감쇠 합산한 상위 limit개 */
+    private List<Entry> trendingFromDb(Window window, long currentHour, int limit) {
+        long windowHours = window.length.toHours();
+        return postViewHourlyRepository.findTrending(currentHour, currentHour - windowHours, windowHours / 4.0, limit)
+                .stream()
+                .map(row -> new Entry(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+
+    private List<Entry> topOf(Map<Long, Double> scores) {
+        return scores.entrySet().stream()
+                .map(e -> new Entry(e.getKey(), e.getValue()))
+                .sorted(BY_SCORE_DESC)
+                .limit(capacity)
+                .toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.mk.post_service.service;
+
+import com.mk.post_service.repository.CategoryRepository;
+import com.mk.post_service.repository.PostRepository;
+import com.mk.post_service.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 목록 페이지 totalElements용 게시글 수 (전체 / 카테고리별 / 태그별).
+ * 전체 수는 처음 조회 시 COUNT 한 번으로 채우고, 이후에는 작성·삭제 시 커밋 후 증감만 반영합니다.
+ * 롤백·동시성 등으로 생길 수 있는 오차는 주기적인 재집계(reconcile)로 보정하므로 근사값입니다.
+ * 카테고리·태그별 수는 메모리에 두지 않고 PostService가 원자적으로 유지하는 post_count 컬럼을 이름으로 한 행 읽습니다.
+ * 요청 파라미터(임의 이름)가 캐시 키가 되어 맵이 끝없이 커지는 일을 막기 위함이며, 없는 이름은 0입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountCache {
+
+    /** 아직 COUNT로 채우지 않은 상태 */
+    private static final long UNLOADED = -1L;
+
+    private final PostRepository postRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final AtomicLong total = new AtomicLong(UNLOADED);
+
+    public long countAll() {
+        long cached = total.get();
+        if (cached != UNLOADED) return cached;
+        // COUNT는 원자 연산 밖에서 실행하고, 먼저 채운 값이 있으면 그것을 사용
+        long exact = postRepository.count();
+        total.compareAndSet(UNLOADED, exact);
+        return total.get();
+    }
+
+    public long countByCategory(String categoryName) {
+        return categoryRepository.findPostCountByName(categoryName).orElse(0L);
+    }
+
+    public long countByTag(String tagName) {
+        return tagRepository.findPostCountByName(tagName).orElse(0L);
+    }
+
+    public void adjustAll(long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            adjust(delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                adjust(delta);
+            }
+        });
+    }
+
+    /** 전체 수를 DB COUNT로 다시 맞춤 (post.count.reconcile-interval-ms, 기본 5분). 아직 조회된 적 없으면 건너뜀 */
+    @Scheduled(fixedDelayString = "${post.count.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (total.get() == UNLOADED) return;
+        try {
+            long exact = postRepository.count();
+            long cached = total.getAndSet(exact);
+            if (cached != exact) {
+                log.debug("게시글 수 캐시 보정: {} -> {}", cached, exact);
+            }
+        } catch (Exception e) {
+            log.warn("게시글 수 캐시 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 아직 채워지지 않았으면 다음 조회 시 COUNT로 채워지므로 증감을 건너뜀 */
+    private void adjust(long delta) {
+        total.updateAndGet(v -> v == UNLOADED ? UNLOADED : Math.max(0L, v + delta));
+    }
+}
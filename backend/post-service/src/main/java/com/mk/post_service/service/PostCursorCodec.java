@@ -0,0 +1,33 @@
+package com.mk.post_service.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 목록 커서 인코딩/디코딩. 클라이언트에는 불투명한 문자열로만 노출되며
+ * 내부적으로는 마지막으로 내려준 게시글 id 입니다.
+ */
+final class PostCursorCodec {
+
+    private static final String PREFIX = "p:";
+
+    private PostCursorCodec() {
+    }
+
+    static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 빈 커서는 첫 페이지(Long.MAX_VALUE 이전)로 해석. 해석할 수 없으면 InvalidCursorException(400) */
+    static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return Long.MAX_VALUE;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) throw new IllegalArgumentException("잘못된 커서입니다.");
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(e);
+        }
+    }
+}
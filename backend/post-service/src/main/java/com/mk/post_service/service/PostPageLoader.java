@@ -0,0 +1,56 @@
+package com.mk.post_service.service;
+
+import com.mk.post_service.dto.PostSummaryProjection;
+import com.mk.post_service.dto.PostSummaryResponse;
+import com.mk.post_service.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 조회 2단계 로더.
+ * 1단계에서 페이징된 게시글 id만 조회한 뒤, 2단계에서 요약(excerpt)·카테고리(1회)와 태그(1회)를
+ * IN 쿼리로 한꺼번에 읽어 id 순서대로 PostSummaryResponse를 조립합니다.
+ * 페이지 크기와 무관하게 쿼리 수가 고정되어 PostResponse.fromEntity의 지연 로딩 N+1을 피하고, 본문 TEXT 컬럼은 읽지 않습니다.
+ * 작성자 닉네임 조회는 요약 조회 직후 비동기로 시작해 태그 조회와 겹쳐 진행하고, 합치는 일은 반환된 future에 맡깁니다.
+ * 호출 측(컨트롤러)은 읽기 트랜잭션이 끝나 DB 커넥션을 반납한 뒤에 join 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostPageLoader {
+
+    private final PostRepository postRepository;
+    private final NicknameResolver nicknameResolver;
+
+    /** ids 순서를 유지한 PostSummaryResponse 목록 (작성자 닉네임 포함). DB 조회는 호출 스레드에서 끝냄 */
+    public CompletableFuture<List<PostSummaryResponse>> load(List<Long> ids) {
+        if (ids.isEmpty()) return CompletableFuture.completedFuture(Collections.emptyList());
+
+        Map<Long, PostSummaryProjection> rows = postRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostSummaryProjection::getId, Function.identity()));
+        CompletableFuture<Map<String, String>> nicknames = nicknameResolver.resolveAsync(
+                rows.values().stream().map(PostSummaryProjection::getAuthorId).collect(Collectors.toSet()));
+
+        Map<Long, List<String>> tagNames = new HashMap<>();
+        for (Object[] pair : postRepository.findTagNamesByPostIdIn(ids)) {
+            tagNames.computeIfAbsent((Long) pair[0], id -> new ArrayList<>()).add((String) pair[1]);
+        }
+
+        List<PostSummaryResponse> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PostSummaryProjection row = rows.get(id);
+            if (row == null) continue; // 1·2단계 사이에 삭제된 게시글
+            result.add(PostSummaryResponse.fromProjection(row, tagNames.getOrDefault(id, new ArrayList<>())));
+        }
+        return nicknames.thenApply(nicknameMap -> {
+            for (PostSummaryResponse res : result) {
+                res.setAuthorNickname(nicknameMap.getOrDefault(res.getAuthorId(), "작성자 알 수 없음"));
+            }
+            return result;
+        });
+    }
+}
@@ -5,8 +5,9 @@ import com.mk.post_service.entity.*;
 import com.mk.post_service.event.PostEventPayload;
 import com.mk.post_service.repository.*;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
@@ -16,7 +17,12 @@ import reactor.core.publisher.Mono;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,89 +34,136 @@ public class PostService {
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
     private final TagRepository tagRepository;
+    private final CommentRepository commentRepository;
     private final WebClient webClient;
     private final KafkaTemplate<String, Object> kafkaTemplate;
-
-    @Value("${USER_SERVICE_URL:http://localhost:8081}")
-    private String userServiceUrl;
+    private final ViewCountAggregator viewCountAggregator;
+    private final PostPageLoader postPageLoader;
+    private final PostCountCache postCountCache;
+    private final TaxonomyResolver taxonomyResolver;
+    private final KeywordSearchIndex keywordSearchIndex;
+    private final PopularPostsLeaderboard popularPostsLeaderboard;
+    private final NicknameResolver nicknameResolver;
+    private final ContentVersions contentVersions;
 
     @Value("${search.service.url:http://msa-search:8010}")
     private String searchServiceUrl;
 
+    /** 목록 totalElements 계산 방식: exact(매 요청 COUNT) | cached(PostCountCache 근사값) */
+    @Value("${post.count.mode:exact}")
+    private String countMode;
+
     public PostService(
             PostRepository postRepository,
             CategoryRepository categoryRepository,
             TagRepository tagRepository,
+            CommentRepository commentRepository,
             WebClient.Builder webClientBuilder,
-            KafkaTemplate<String, Object> kafkaTemplate
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ViewCountAggregator viewCountAggregator,
+            PostPageLoader postPageLoader,
+            PostCountCache postCountCache,
+            TaxonomyResolver taxonomyResolver,
+            KeywordSearchIndex keywordSearchIndex,
+            PopularPostsLeaderboard popularPostsLeaderboard,
+            NicknameResolver nicknameResolver,
+            ContentVersions contentVersions
     ) {
         this.postRepository = postRepository;
         this.categoryRepository = categoryRepository;
         this.tagRepository = tagRepository;
+        this.commentRepository = commentRepository;
         this.webClient = webClientBuilder.build();
         this.kafkaTemplate = kafkaTemplate;
+        this.viewCountAggregator = viewCountAggregator;
+        this.postPageLoader = postPageLoader;
+        this.postCountCache = postCountCache;
+        this.taxonomyResolver = taxonomyResolver;
+        this.keywordSearchIndex = keywordSearchIndex;
+        this.popularPostsLeaderboard = popularPostsLeaderboard;
+        this.nicknameResolver = nicknameResolver;
+        this.contentVersions = contentVersions;
     }
 
-    public PostResponse createPost(PostRequest request, String authenticatedUserId) {
+    /**
+     * 작성자 닉네임은 요청 시점에 조회를 시작해 DB 작업과 겹치고, 응답에 합치는 일은 반환된 future에 맡깁니다.
+     * 호출 측(컨트롤러)은 트랜잭션이 커밋된 뒤에 join 하므로 닉네임 대기 중에 행 잠금을 잡고 있지 않습니다.
+     */
+    public CompletableFuture<PostResponse> createPost(PostRequest request, String authenticatedUserId) {
+        CompletableFuture<Map<String, String>> nicknames = nicknameResolver.resolveAsync(List.of(authenticatedUserId));
         Post post = request.toEntity();
         post.setAuthorId(authenticatedUserId);
 
-        if (request.getCategoryName() != null) {
-            Category category = categoryRepository.findByName(request.getCategoryName())
-                    .orElseGet(() -> categoryRepository.save(Category.builder().name(request.getCategoryName()).build()));
-            post.setCategory(category);
+        // 카테고리/태그는 TaxonomyResolver 캐시로 해석 (캐시 히트 시 조회 쿼리 없음)
+        String categoryName = request.getCategoryName();
+        if (categoryName != null) {
+            post.setCategory(taxonomyResolver.resolveCategory(categoryName));
         }
 
+        List<String> tagNames = distinctTagNames(request.getTagNames());
         if (request.getTagNames() != null) {
-            Set<Tag> tags = request.getTagNames().stream()
-                    .map(name -> tagRepository.findByName(name)
-                            .orElseGet(() -> tagRepository.save(Tag.builder().name(name).build())))
-                    .collect(Collectors.toSet());
-            post.setTags(tags);
+            post.setTags(taxonomyResolver.resolveTags(tagNames));
         }
 
         Post savedPost = postRepository.save(post);
-        PostResponse res = PostResponse.fromEntity(savedPost);
+        addTaxonomyPostCounts(savedPost.getCategory(), savedPost.getTags(), 1L);
+        postCountCache.adjustAll(1L);
+        // 프록시 초기화를 피하기 위해 이름은 요청 값으로 채움
+        PostResponse res = PostResponse.fromEntity(savedPost, categoryName, tagNames);
 
         // Search 서비스 임베딩 인덱싱: Kafka 발행 + 즉시 HTTP 인덱싱(검색 지연 방지)
         publishPostEvent(savedPost.getId(), savedPost.getTitle(), savedPost.getContent());
+        keywordSearchIndex.indexAfterCommit(savedPost.getId(), savedPost.getTitle(), savedPost.getContent());
+        contentVersions.bump(ContentVersions.POSTS, ContentVersions.TAXONOMY);
         syncSearchIndex(savedPost.getId(), savedPost.getTitle(), savedPost.getContent());
 
-        Map<String, String> nicknameMap = getAuthorNicknamesMap(List.of(authenticatedUserId));
-        res.setAuthorNickname(nicknameMap.getOrDefault(authenticatedUserId, "작성자 알 수 없음"));
-        return res;
+        return withAuthorNickname(res, nicknames, authenticatedUserId);
     }
 
-    public PostResponse updatePost(Long id, PostRequest request, String authenticatedUserId) {
+    /** createPost와 같이 닉네임은 커밋 뒤 호출 측에서 join */
+    public CompletableFuture<PostResponse> updatePost(Long id, PostRequest request, String authenticatedUserId) {
         Post post = postRepository.findById(id).orElseThrow(() -> new RuntimeException("게시글 없음"));
         if (!post.getAuthorId().equals(authenticatedUserId)) throw new RuntimeException("권한 없음");
+        CompletableFuture<Map<String, String>> nicknames = nicknameResolver.resolveAsync(List.of(authenticatedUserId));
 
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
+        post.setUpdatedAt(LocalDateTime.now()); // 태그만 바뀌어도 수정 시각이 갱신되도록 명시
+        Category previousCategory = post.getCategory();
+        Set<Tag> previousTags = new HashSet<>(post.getTags());
+        String previousCategoryName = previousCategory != null ? previousCategory.getName() : null;
+        List<String> previousTagNames = previousTags.stream().map(Tag::getName).collect(Collectors.toList());
 
+        String categoryName = previousCategoryName;
         if (request.getCategoryName() != null) {
-            Category category = categoryRepository.findByName(request.getCategoryName())
-                    .orElseGet(() -> categoryRepository.save(Category.builder().name(request.getCategoryName()).build()));
-            post.setCategory(category);
+            categoryName = request.getCategoryName();
+            post.setCategory(taxonomyResolver.resolveCategory(categoryName));
         }
 
+        List<String> tagNames = previousTagNames;
         if (request.getTagNames() != null) {
-            Set<Tag> tags = request.getTagNames().stream()
-                    .map(name -> tagRepository.findByName(name)
-                            .orElseGet(() -> tagRepository.save(Tag.builder().name(name).build())))
-                    .collect(Collectors.toSet());
-            post.setTags(tags);
+            tagNames = distinctTagNames(request.getTagNames());
+            post.setTags(taxonomyResolver.resolveTags(tagNames));
         }
 
-        PostResponse res = PostResponse.fromEntity(post);
+        updateTaxonomyPostCounts(previousCategory, previousTags, post.getCategory(), post.getTags());
+        PostResponse res = PostResponse.fromEntity(post, categoryName, tagNames);
 
         // Search 서비스 갱신: Kafka 발행 + 즉시 HTTP 인덱싱
         publishPostEvent(post.getId(), post.getTitle(), post.getContent());
+        keywordSearchIndex.indexAfterCommit(post.getId(), post.getTitle(), post.getContent());
+        contentVersions.bump(ContentVersions.POSTS, ContentVersions.TAXONOMY);
         syncSearchIndex(post.getId(), post.getTitle(), post.getContent());
 
-        Map<String, String> nicknameMap = getAuthorNicknamesMap(List.of(authenticatedUserId));
-        res.setAuthorNickname(nicknameMap.getOrDefault(authenticatedUserId, "작성자 알 수 없음"));
-        return res;
+        return withAuthorNickname(res, nicknames, authenticatedUserId);
+    }
+
+    private static CompletableFuture<PostResponse> withAuthorNickname(
+            PostResponse res, CompletableFuture<Map<String, String>> nicknames, String authorId) {
+        return nicknames.thenApply(nicknameMap -> {
+            res.setAuthorNickname(nicknameMap.getOrDefault(authorId, "작성자 알 수 없음"));
+            return res;
+        });
     }
 
     public void deletePost(Long id, String authenticatedUserId) {
@@ -118,18 +171,65 @@ public class PostService {
         if (!post.getAuthorId().equals(authenticatedUserId)) throw new RuntimeException("권한 없음");
         Category categoryToCheck = post.getCategory();
         Set<Tag> tagsToCheck = post.getTags() != null ? new HashSet<>(post.getTags()) : Collections.emptySet();
+        commentRepository.deleteAllByPostIdInBulk(id);
         postRepository.delete(post);
+        addTaxonomyPostCounts(categoryToCheck, tagsToCheck, -1L);
+        postCountCache.adjustAll(-1L);
+        viewCountAggregator.discard(id);
+        popularPostsLeaderboard.remove(id);
         removeSearchIndex(id);
-        if (categoryToCheck != null && postRepository.countByCategory(categoryToCheck) == 0) {
+        keywordSearchIndex.removeAfterCommit(id);
+        contentVersions.bump(ContentVersions.POSTS, ContentVersions.TAXONOMY);
+        // 고아 카테고리/태그 정리: COUNT 대신 post_count 컬럼 확인
+        if (categoryToCheck != null && isUnused(categoryRepository.findPostCountById(categoryToCheck.getId()))) {
             categoryRepository.delete(categoryToCheck);
+            taxonomyResolver.evictCategory(categoryToCheck.getName());
         }
         for (Tag tag : tagsToCheck) {
-            if (postRepository.countByTags(tag) == 0) {
+            if (isUnused(tagRepository.findPostCountById(tag.getId()))) {
                 tagRepository.delete(tag);
+                taxonomyResolver.evictTag(tag.getName());
             }
         }
     }
 
+    private static List<String> distinctTagNames(List<String> names) {
+        return names == null ? new ArrayList<>() : names.stream().distinct().collect(Collectors.toList());
+    }
+
+    private static boolean isUnused(Long postCount) {
+        return postCount == null || postCount <= 0;
+    }
+
+    /** Category/Tag.post_count 원자적 증감 — 태그는 IN 쿼리 한 번으로 처리 */
+    private void addTaxonomyPostCounts(Category category, Set<Tag> tags, long delta) {
+        if (category != null) {
+            categoryRepository.addPostCount(category.getId(), delta);
+        }
+        if (tags != null && !tags.isEmpty()) {
+            tagRepository.addPostCount(tags.stream().map(Tag::getId).collect(Collectors.toSet()), delta);
+        }
+    }
+
+    /** 수정 시 바뀐 카테고리/태그에 대해서만 post_count 증감 */
+    private void updateTaxonomyPostCounts(Category before, Set<Tag> beforeTags, Category after, Set<Tag> afterTags) {
+        Long beforeId = before != null ? before.getId() : null;
+        Long afterId = after != null ? after.getId() : null;
+        if (!Objects.equals(beforeId, afterId)) {
+            if (beforeId != null) categoryRepository.addPostCount(beforeId, -1L);
+            if (afterId != null) categoryRepository.addPostCount(afterId, 1L);
+        }
+
+        Set<Long> beforeTagIds = beforeTags.stream().map(Tag::getId).collect(Collectors.toSet());
+        Set<Long> afterTagIds = afterTags.stream().map(Tag::getId).collect(Collectors.toSet());
+        Set<Long> removed = new HashSet<>(beforeTagIds);
+        removed.removeAll(afterTagIds);
+        Set<Long> added = new HashSet<>(afterTagIds);
+        added.removeAll(beforeTagIds);
+        if (!removed.isEmpty()) tagRepository.addPostCount(removed, -1L);
+        if (!added.isEmpty()) tagRepository.addPostCount(added, 1L);
+    }
+
     /** 포스트 삭제 시 검색 서비스 인덱스에서 제거 */
     private void removeSearchIndex(Long postId) {
         try {
@@ -148,92 +248,201 @@ public class PostService {
         }
     }
 
-    public PostResponse getPostById(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("게시글 없음"));
-        post.setViewCount((post.getViewCount() == null ? 0L : post.getViewCount()) + 1L);
-        postRepository.save(post);
+    /** 상세 조건부 GET용 버전 — 수정 시각과 댓글 수로 약한 ETag 구성 (조회수는 제외) */
+    public record PostVersion(Long postId, Instant updatedAt, long commentCount) {
+
+        public String etag() {
+            return "W/\"post-" + postId + "-" + updatedAt.toEpochMilli() + "-" + commentCount + "\"";
+        }
 
-        PostResponse res = PostResponse.fromEntity(post);
-        Map<String, String> nicknameMap = getAuthorNicknamesMap(List.of(post.getAuthorId()));
-        res.setAuthorNickname(nicknameMap.getOrDefault(post.getAuthorId(), "작성자 알 수 없음"));
-        return res;
+        public long lastModifiedMillis() {
+            return updatedAt.truncatedTo(ChronoUnit.SECONDS).toEpochMilli();
+        }
+    }
+
+    /** 상세 조건부 GET용 — 컬럼 두 개만 조회. 게시글이 없으면 null */
+    @Transactional(readOnly = true)
+    public PostVersion getPostVersion(Long id) {
+        List<Object[]> rows = postRepository.findVersionById(id);
+        if (rows.isEmpty()) return null;
+        Object[] row = rows.get(0);
+        Instant updatedAt = ((LocalDateTime) row[0]).atZone(ZoneId.systemDefault()).toInstant();
+        return new PostVersion(id, updatedAt, row[1] != null ? (Long) row[1] : 0L);
+    }
+
+    /** 304 응답 시에도 조회수는 누적 */
+    public void countView(Long id) {
+        viewCountAggregator.increment(id);
+    }
+
+    /**
+     * 상세 조회 — 프로젝션으로 DTO를 바로 읽어 엔티티 dirty-checking 없이 읽기 전용 트랜잭션(replica 라우팅 대상)에서 처리.
+     * 닉네임은 반환된 future로 합치며, 호출 측이 트랜잭션 종료(커넥션 반납) 뒤에 join 합니다.
+     * 아래 목록·인기글 조회도 같은 방식입니다.
+     */
+    @Transactional(readOnly = true)
+    public CompletableFuture<PostResponse> getPostById(Long id) {
+        PostDetailProjection row = postRepository.findDetailById(id)
+                .orElseThrow(() -> new RuntimeException("게시글 없음"));
+        // 조회수는 행 UPDATE 대신 메모리에 누적 후 ViewCountAggregator가 주기적으로 배치 반영
+        viewCountAggregator.increment(id);
+        // 닉네임 조회는 태그 조회와 겹쳐 진행
+        CompletableFuture<Map<String, String>> nicknames = nicknameResolver.resolveAsync(List.of(row.getAuthorId()));
+
+        PostResponse res = PostResponse.fromProjection(row, postRepository.findTagNamesByPostId(id));
+        res.setViewCount(res.getViewCount() + viewCountAggregator.pendingFor(id));
+        return withAuthorNickname(res, nicknames, row.getAuthorId());
     }
 
     /** 조회수 기준 인기글 상위 N개 (메인 페이지용) */
-    public List<PostResponse> getTopPopularPosts(int limit) {
-        if (limit <= 0) return Collections.emptyList();
-        List<Post> top = postRepository.findTopByViewCount(org.springframework.data.domain.PageRequest.of(0, limit));
-        List<String> authorIds = top.stream().map(Post::getAuthorId).distinct().collect(Collectors.toList());
-        Map<String, String> nicknameMap = getAuthorNicknamesMap(authorIds);
-        return top.stream()
-                .map(post -> {
-                    PostResponse res = PostResponse.fromEntity(post);
-                    res.setAuthorNickname(nicknameMap.getOrDefault(post.getAuthorId(), "작성자 알 수 없음"));
-                    return res;
-                })
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<PostSummaryResponse>> getTopPopularPosts(int limit) {
+        return getTopPopularPosts(limit, PopularPostsLeaderboard.Window.ALL);
+    }
+
+    /** 인기글 — window가 ALL이면 누적 조회수, DAY/WEEK면 최근 24시간/7일 감쇠 점수(트렌딩) 기준. 스냅샷 준비 전에도 같은 기준으로 DB에서 계산 */
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<PostSummaryResponse>> getTopPopularPosts(int limit, PopularPostsLeaderboard.Window window) {
+        if (limit <= 0) return CompletableFuture.completedFuture(Collections.emptyList());
+        List<Long> topIds = popularPostsLeaderboard.isReady()
+                ? popularPostsLeaderboard.topIds(window, limit)
+                : popularPostsLeaderboard.topIdsFromDb(window, limit);
+        return postPageLoader.load(topIds);
     }
 
     // public Page<PostResponse> getAllPosts(Pageable pageable) {
     //     return mapPostPageToResponse(postRepository.findAll(pageable));
     // }
-    public Page<PostResponse> getAllPosts(Pageable pageable) {
-        return mapPostPageToResponse(postRepository.findAllWithDetails(pageable)); // 명칭 변경
+    @Transactional(readOnly = true)
+    public CompletableFuture<Page<PostSummaryResponse>> getAllPosts(Pageable pageable) {
+        if (isCachedCountMode()) {
+            return toPage(postRepository.findIds(pageable), pageable, postCountCache.countAll());
+        }
+        return mapPostPageToResponse(postRepository.findPageIds(pageable));
     }
 
 
-    public Page<PostResponse> getPostsByCategory(String categoryName, Pageable pageable) {
-        return mapPostPageToResponse(postRepository.findByCategoryName(categoryName, pageable));
+    @Transactional(readOnly = true)
+    public CompletableFuture<Page<PostSummaryResponse>> getPostsByCategory(String categoryName, Pageable pageable) {
+        if (isCachedCountMode()) {
+            return toPage(postRepository.findIdsByCategoryName(categoryName, pageable), pageable, postCountCache.countByCategory(categoryName));
+        }
+        return mapPostPageToResponse(postRepository.findPageIdsByCategoryName(categoryName, pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public CompletableFuture<Page<PostSummaryResponse>> getPostsByTag(String tagName, Pageable pageable) {
+        if (isCachedCountMode()) {
+            return toPage(postRepository.findIdsByTagName(tagName, pageable), pageable, postCountCache.countByTag(tagName));
+        }
+        return mapPostPageToResponse(postRepository.findPageIdsByTagName(tagName, pageable));
+    }
+
+    /** 커서 기반 전체 목록 (id 내림차순, COUNT 없음) */
+    @Transactional(readOnly = true)
+    public CompletableFuture<CursorPage<PostSummaryResponse>> getAllPostsAfter(String cursor, int size) {
+        long after = PostCursorCodec.decode(cursor);
+        return toCursorPage(postRepository.findIdsBefore(after, PageRequest.of(0, size + 1)), size);
+    }
+
+    @Transactional(readOnly = true)
+    public CompletableFuture<CursorPage<PostSummaryResponse>> getPostsByCategoryAfter(String categoryName, String cursor, int size) {
+        long after = PostCursorCodec.decode(cursor);
+        return toCursorPage(postRepository.findIdsByCategoryNameBefore(categoryName, after, PageRequest.of(0, size + 1)), size);
+    }
+
+    @Transactional(readOnly = true)
+    public CompletableFuture<CursorPage<PostSummaryResponse>> getPostsByTagAfter(String tagName, String cursor, int size) {
+        long after = PostCursorCodec.decode(cursor);
+        return toCursorPage(postRepository.findIdsByTagNameBefore(tagName, after, PageRequest.of(0, size + 1)), size);
     }
 
-    public Page<PostResponse> getPostsByTag(String tagName, Pageable pageable) {
-        return mapPostPageToResponse(postRepository.findByTagsName(tagName, pageable));
+    /** size + 1개를 조회해 다음 페이지 존재 여부를 판단하고, 있으면 마지막 id로 커서 생성 */
+    private CompletableFuture<CursorPage<PostSummaryResponse>> toCursorPage(List<Long> ids, int size) {
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+        String nextCursor = hasNext ? PostCursorCodec.encode(pageIds.get(pageIds.size() - 1)) : null;
+        return postPageLoader.load(pageIds).thenApply(content -> new CursorPage<>(content, nextCursor, size));
     }
 
     /** 키워드(SQL) 검색 — 하이브리드 검색용. 제목·본문 LIKE 검색 결과를 snippet 형태로 반환. */
+    @Transactional(readOnly = true)
     public List<com.mk.post_service.dto.PostSearchResultDto> searchByKeyword(String q, int limit) {
         if (q == null || q.trim().isEmpty()) return Collections.emptyList();
-        Pageable pageable = org.springframework.data.domain.PageRequest.of(0, Math.min(limit, 50));
+        if (keywordSearchIndex.isReady()) {
+            return searchByKeywordIndex(q.trim(), Math.min(limit, 50));
+        }
+        // 기동 직후 색인 구성 전에는 기존 LIKE 검색으로 대체
+        Pageable pageable = PageRequest.of(0, Math.min(limit, 50));
         Page<Post> page = postRepository.searchByKeyword(q.trim(), pageable);
         return page.getContent().stream()
                 .map(p -> {
                     String content = p.getContent() != null ? p.getContent() : "";
                     String snippet = content.length() > 200 ? content.substring(0, 200) + "..." : content;
-                    return new com.mk.post_service.dto.PostSearchResultDto(p.getId(), p.getTitle(), snippet);
+                    return new com.mk.post_service.dto.PostSearchResultDto(p.getId(), p.getTitle(), snippet, 1.0, Collections.emptyList());
                 })
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 역색인(BM25) 검색 — 상위 결과의 본문만 IN 쿼리로 읽어 매칭 위치 중심 snippet 생성.
+     * BM25 점수는 상한이 없으므로 1위 점수로 나눠 (0, 1] 범위로 맞춥니다 (LIKE 대체 경로의 1.0, 의미 검색 유사도와 같은 척도).
+     */
+    private List<com.mk.post_service.dto.PostSearchResultDto> searchByKeywordIndex(String q, int limit) {
+        List<KeywordSearchIndex.Hit> hits = keywordSearchIndex.search(q, limit);
+        if (hits.isEmpty()) return Collections.emptyList();
+
+        Map<Long, PostDetailProjection> rows = postRepository.findDetailsByIdIn(
+                        hits.stream().map(KeywordSearchIndex.Hit::postId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(PostDetailProjection::getId, row -> row));
+        Set<String> terms = new LinkedHashSet<>(KeywordTokenizer.tokenize(q));
+        double topScore = hits.get(0).score();
+
+        List<com.mk.post_service.dto.PostSearchResultDto> results = new ArrayList<>();
+        for (KeywordSearchIndex.Hit hit : hits) {
+            PostDetailProjection row = rows.get(hit.postId());
+            if (row == null) continue;
+            KeywordSnippetBuilder.Snippet snippet = KeywordSnippetBuilder.build(row.getContent(), terms);
+            results.add(new com.mk.post_service.dto.PostSearchResultDto(
+                    row.getId(), row.getTitle(), snippet.text(),
+                    topScore > 0 ? hit.score() / topScore : 1.0, snippet.highlights()));
+        }
+        return results;
+    }
+
+    @Transactional(readOnly = true)
     public List<CategoryResponse> getAllCategoriesWithCount() {
+        // post_count 컬럼을 그대로 사용 — 카테고리별 COUNT 쿼리 없음
         return categoryRepository.findAll().stream()
-                .map(category -> CategoryResponse.fromEntity(category, postRepository.countByCategory(category)))
+                .map(category -> CategoryResponse.fromEntity(category, category.getPostCount()))
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<TagResponse> getAllTagsWithCount() {
         return tagRepository.findAll().stream()
                 .map(tag -> TagResponse.builder()
                         .name(tag.getName())
-                        .postCount(postRepository.countByTags(tag))
+                        .postCount(tag.getPostCount())
                         .build())
                 .collect(Collectors.toList());
     }
 
-    private Page<PostResponse> mapPostPageToResponse(Page<Post> postPage) {
-        log.info("조회된 게시글 개수: {}", postPage.getContent().size());
-        List<String> authorIds = postPage.stream()
-                .map(Post::getAuthorId)
-                .distinct()
-                .collect(Collectors.toList());
-        Map<String, String> nicknameMap = getAuthorNicknamesMap(authorIds);
-        log.info("가져온 닉네임 맵: {}", nicknameMap);
+    /** id 페이지 → 2단계 로딩(PostPageLoader) → 닉네임 채움. 페이지 메타데이터(total 등)는 id 페이지 것을 그대로 사용 */
+    private CompletableFuture<Page<PostSummaryResponse>> mapPostPageToResponse(Page<Long> idPage) {
+        log.info("조회된 게시글 개수: {}", idPage.getContent().size());
+        return postPageLoader.load(idPage.getContent())
+                .thenApply(content -> new PageImpl<>(content, idPage.getPageable(), idPage.getTotalElements()));
+    }
 
-        return postPage.map(post -> {
-            PostResponse res = PostResponse.fromEntity(post);
-            res.setAuthorNickname(nicknameMap.getOrDefault(post.getAuthorId(), "작성자 알 수 없음"));
-            return res;
-        });
+    /** cached 모드: COUNT 없이 조회한 id 목록 + 캐시된 total로 페이지 구성 */
+    private CompletableFuture<Page<PostSummaryResponse>> toPage(List<Long> ids, Pageable pageable, long total) {
+        return postPageLoader.load(ids).thenApply(content -> new PageImpl<>(content, pageable, total));
+    }
+
+    private boolean isCachedCountMode() {
+        return "cached".equalsIgnoreCase(countMode);
     }
 
     /** Search 서비스가 소비하는 post.events 토픽으로 발행 (임베딩 인덱싱) */
@@ -272,21 +481,4 @@ public class PostService {
             log.warn("Search sync index 요청 실패 (postId={}): {}", postId, e.getMessage());
         }
     }
-
-    private Map<String, String> getAuthorNicknamesMap(List<String> authorIds) {
-        if (authorIds.isEmpty()) return Collections.emptyMap();
-        try {
-            return webClient.post()
-                    .uri(userServiceUrl + "/user/api/users/nicknames")
-                    .bodyValue(authorIds)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, String>>() {})
-                    .timeout(java.time.Duration.ofSeconds(2)) // 2초 타임아웃 추가
-                    .onErrorReturn(Collections.emptyMap())    // 실패 시 빈 값 반환
-                    .block();
-        } catch (Exception e) {
-            log.error("User Service 통신 실패: {}", e.getMessage());
-            return Collections.emptyMap();
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.mk.post_service.service;
+
+import com.mk.post_service.entity.Category;
+import com.mk.post_service.entity.Tag;
+import com.mk.post_service.repository.CategoryRepository;
+import com.mk.post_service.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * 게시글 작성·수정 시 카테고리/태그 이름 → 엔티티 해석.
+ * 이름 → id 를 제한된 크기의 LRU 캐시에 보관하고, 캐시에 있으면 엔티티 대신 getReferenceById 프록시를 돌려줍니다.
+ * 다른 인스턴스가 고아 정리로 지운 id를 참조해 FK 위반이 나지 않도록, 캐시 히트도 PK 존재 확인(id만 조회)을 한 번 거치고
+ * 없어진 id는 캐시에서 빼고 미스로 처리합니다.
+ * 캐시 미스는 findByNameIn 한 번으로 모아서 조회하고, 없는 태그는 saveAll로 한꺼번에 생성합니다.
+ * 새로 만든 항목은 커밋 후에만 캐시에 넣고(롤백된 id 캐싱 방지), 고아 정리로 삭제된 항목은 즉시 + 커밋 후 다시 제거합니다
+ * (삭제 커밋 전에 동시 미스가 같은 id를 다시 캐싱하는 경우 대비).
+ */
+@Slf4j
+@Component
+public class TaxonomyResolver {
+
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final Map<String, Long> categoryIds;
+    private final Map<String, Long> tagIds;
+
+    public TaxonomyResolver(
+            CategoryRepository categoryRepository,
+            TagRepository tagRepository,
+            @Value("${post.taxonomy-cache.max-size:10000}") int maxSize
+    ) {
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.categoryIds = lruMap(maxSize);
+        this.tagIds = lruMap(maxSize);
+    }
+
+    public Category resolveCategory(String name) {
+        Long cachedId = categoryIds.get(name);
+        if (cachedId != null) {
+            if (categoryRepository.existsById(cachedId)) {
+                return categoryRepository.getReferenceById(cachedId);
+            }
+            categoryIds.remove(name, cachedId);
+        }
+        Optional<Category> existing = categoryRepository.findByName(name);
+        if (existing.isPresent()) {
+            categoryIds.put(name, existing.get().getId());
+            return existing.get();
+        }
+        Category created = categoryRepository.save(Category.builder().name(name).build());
+        putAfterCommit(categoryIds, Map.of(name, created.getId()));
+        return created;
+    }
+
+    /** 태그 이름 목록 해석 — 캐시 히트는 id 존재 확인 1회, 미스는 IN 조회 1회 + 신규 일괄 저장 1회 */
+    public Set<Tag> resolveTags(Collection<String> names) {
+        Set<Tag> result = new HashSet<>();
+        List<String> misses = new ArrayList<>();
+        Map<String, Long> hits = new HashMap<>();
+        for (String name : new LinkedHashSet<>(names)) {
+            Long cachedId = tagIds.get(name);
+            if (cachedId != null) {
+                hits.put(name, cachedId);
+            } else {
+                misses.add(name);
+            }
+        }
+        if (!hits.isEmpty()) {
+            Set<Long> existing = new HashSet<>(tagRepository.findExistingIds(hits.values()));
+            for (Map.Entry<String, Long> hit : hits.entrySet()) {
+                if (existing.contains(hit.getValue())) {
+                    result.add(tagRepository.getReferenceById(hit.getValue()));
+                } else {
+                    tagIds.remove(hit.getKey(), hit.getValue());
+                    misses.add(hit.getKey());
+                }
+            }
+        }
+        if (misses.isEmpty()) return result;
+
+        Set<String> found = new HashSet<>();
+        for (Tag tag : tagRepository.findByNameIn(misses)) {
+            tagIds.put(tag.getName(), tag.getId());
+            found.add(tag.getName());
+            result.add(tag);
+        }
+
+        List<Tag> toCreate = misses.stream()
+                .filter(name -> !found.contains(name))
+                .map(name -> Tag.builder().name(name).build())
+                .toList();
+        if (!toCreate.isEmpty()) {
+            Map<String, Long> createdIds = new HashMap<>();
+            for (Tag tag : tagRepository.saveAll(toCreate)) {
+                createdIds.put(tag.getName(), tag.getId());
+                result.add(tag);
+            }
+            putAfterCommit(tagIds, createdIds);
+        }
+        return result;
+    }
+
+    public void evictCategory(String name) {
+        evictNowAndAfterCommit(categoryIds, name);
+    }
+
+    public void evictTag(String name) {
+        evictNowAndAfterCommit(tagIds, name);
+    }
+
+    private void evictNowAndAfterCommit(Map<String, Long> cache, String name) {
+        cache.remove(name);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.remove(name);
+            }
+        });
+    }
+
+    private void putAfterCommit(Map<String, Long> cache, Map<String, Long> entries) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.putAll(entries);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.putAll(entries);
+            }
+        });
+    }
+
+    private static Map<String, Long> lruMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package com.mk.post_service.service;
+
+import com.mk.post_service.event.ViewCountsFlushedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 집계기.
+ * 조회 시에는 메모리의 LongAdder에만 누적하고, 주기적으로 dirty 게시글만 모아
+ * {@code UPDATE posts SET view_count = view_count + ?} 배치 한 번으로 반영합니다.
+ * 배치는 한 트랜잭션으로 실행하므로 실패 시 전부 롤백되어 증분을 되돌려도 이중 집계되지 않습니다.
+ * 이번 주기에 증분이 없던 게시글의 LongAdder는 맵에서 제거하여, 한 번이라도 조회된 게시글 수만큼 맵이 커지지 않게 합니다.
+ * 같은 트랜잭션에서 시간 버킷 테이블(post_view_hourly)에도 증분을 upsert 하여, 트렌딩 순위가 모든 인스턴스의 조회를 반영하게 합니다.
+ * 인스턴스 간 교착을 피하려고 행은 게시글 id 순으로 갱신합니다.
+ * 종료 시(@PreDestroy) 남은 증분을 마지막으로 flush 합니다.
+ */
+@Slf4j
+@Component
+public class ViewCountAggregator {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+    private static final String HOURLY_SQL = "INSERT INTO post_view_hourly (post_id, bucket_hour, views) VALUES (?, ?, ?) "
+            + "ON CONFLICT (post_id, bucket_hour) DO UPDATE SET views = post_view_hourly.views + EXCLUDED.views";
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer flushTimer;
+
+    public ViewCountAggregator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.flushTimer = Timer.builder("post.view_count.flush")
+                .description("조회수 배치 flush 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("post.view_count.pending", this, ViewCountAggregator::pendingDelta)
+                .description("아직 DB에 반영되지 않은 조회수 증분 합계")
+                .register(meterRegistry);
+    }
+
+    /** 조회 1건 누적 (락 없음) */
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /** 아직 flush 되지 않은 해당 게시글의 조회수 증분 */
+    public long pendingFor(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /** 삭제된 게시글의 미반영 증분 제거 */
+    public void discard(Long postId) {
+        pending.remove(postId);
+    }
+
+    /** flush 대기 중인 전체 증분 합계 (메트릭용) */
+    public long pendingDelta() {
+        long total = 0L;
+        for (LongAdder adder : pending.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 누적된 증분을 DB에 반영. 주기는 post.view-count.flush-interval-ms (기본 5초)로 제한되며,
+     * 실패 시 증분을 다시 되돌려 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, entry.getKey()});
+            } else {
+                removeIdle(entry.getKey(), entry.getValue());
+            }
+        }
+        if (batch.isEmpty()) return;
+        batch.sort(Comparator.comparing(row -> (Long) row[1]));
+        long hour = System.currentTimeMillis() / HOUR_MILLIS;
+        List<Object[]> hourly = batch.stream().map(row -> new Object[]{row[1], hour, row[0]}).toList();
+
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+                jdbcTemplate.batchUpdate(HOURLY_SQL, hourly);
+            }));
+            log.debug("조회수 flush 완료: {}개 게시글", batch.size());
+        } catch (Exception e) {
+            log.warn("조회수 flush 실패, 다음 주기에 재시도 ({}개 게시글): {}", batch.size(), e.getMessage());
+            for (Object[] row : batch) {
+                pending.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+            return;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Object[] row : batch) {
+            deltas.put((Long) row[1], (Long) row[0]);
+        }
+        try {
+            eventPublisher.publishEvent(new ViewCountsFlushedEvent(deltas));
+        } catch (Exception e) {
+            log.warn("조회수 flush 이벤트 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 증분이 없던 항목 제거. 제거 직전에 들어온 증분은 새 항목으로 옮겨 잃지 않도록 함 */
+    private void removeIdle(Long postId, LongAdder adder) {
+        if (!pending.remove(postId, adder)) return;
+        long late = adder.sumThenReset();
+        if (late > 0) {
+            pending.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
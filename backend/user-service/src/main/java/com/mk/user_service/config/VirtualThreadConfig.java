@@ -0,0 +1,44 @@
+package com.mk.user_service.config;
+
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 진단 (virtual-threads.pinning-monitor.enabled=true 일 때만).
+ * 가상 스레드 전환 자체는 Spring Boot의 spring.threads.virtual.enabled가 Tomcat·태스크 실행기·Kafka 리스너에 적용합니다.
+ * 여기서는 Boot가 제공하지 않는 JFR jdk.VirtualThreadPinned 이벤트(virtual-threads.pinning-threshold-ms, 기본 20ms 이상)만 로그로 남깁니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "virtual-threads.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Value("${virtual-threads.pinning-threshold-ms:20}")
+    private long pinningThresholdMillis;
+
+    @Bean(destroyMethod = "close")
+    public RecordingStream virtualThreadPinningMonitor() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(pinningThresholdMillis))
+                .withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", event -> {
+            List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+            String top = frames.stream().limit(8)
+                    .map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber())
+                    .collect(Collectors.joining(" <- "));
+            log.warn("가상 스레드 pinning {}ms: {}", event.getDuration().toMillis(), top);
+        });
+        stream.startAsync();
+        return stream;
+    }
+}
@@ -1,12 +1,16 @@
 package com.mk.user_service.controller;
 
+import com.mk.user_service.dto.NicknameSnapshotResponse;
 import com.mk.user_service.dto.UserResponse;
 import com.mk.user_service.entity.User;
 import com.mk.user_service.security.SecurityUtils;
 import com.mk.user_service.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -18,6 +22,9 @@ public class UserController {
 
     private final UserService userService;
 
+    @Value("${user.nickname-batch.max-ids:1000}")
+    private int maxNicknameBatchIds;
+
     // 추가 1.12
     // 아이디 중복 확인
     @GetMapping("/check-username")
@@ -53,6 +60,25 @@ public class UserController {
 
     @PostMapping("/api/users/nicknames")
     public ResponseEntity<Map<String, String>> getNicknamesByIds(@RequestBody List<String> userIds) {
+        // JSON 응답은 한 번에 만들어지므로 개수를 제한 (대량 조회는 아래 스트리밍 사용)
+        if (userIds.size() > maxNicknameBatchIds) {
+            return ResponseEntity.badRequest().build();
+        }
         return ResponseEntity.ok(userService.getNicknamesByIds(userIds));
     }
+
+    // 대량 ID용: JSON Lines(application/x-ndjson)로 한 줄에 하나씩 스트리밍 (개수 제한 없음)
+    @PostMapping(value = "/api/users/nicknames/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamNicknamesByIds(@RequestBody List<String> userIds) {
+        StreamingResponseBody body = out -> userService.writeNicknames(userIds, out);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+    }
+
+    // 닉네임 복제본(post-service) 부트스트랩용 스냅샷. next 커서로 이어서 요청
+    @GetMapping("/api/users/nicknames/snapshot")
+    public ResponseEntity<NicknameSnapshotResponse> getNicknameSnapshot(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "1000") int size) {
+        return ResponseEntity.ok(userService.getNicknameSnapshot(after, Math.max(1, Math.min(size, 5000))));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.mk.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 닉네임 복제본 부트스트랩용 스냅샷 한 페이지.
+ * next가 null이면 마지막 페이지입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class NicknameSnapshotResponse {
+    private Map<String, String> nicknames;
+    private String next;
+}
@@ -0,0 +1,13 @@
+package com.mk.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserNicknameEvent {
+    private String id;
+    private String nickname;
+}
@@ -11,6 +11,15 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // 닉네임 일괄 조회 지연·실패: 일시적 장애이므로 503 (호출 측은 결과를 캐싱하지 않고 기본값 사용)
+    @ExceptionHandler(NicknameLookupUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleNicknameLookupUnavailable(NicknameLookupUnavailableException e) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "SERVICE_UNAVAILABLE");
+        errorResponse.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     // 유저를 찾지 못했을 때 발생하는 예외 처리
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException e) {
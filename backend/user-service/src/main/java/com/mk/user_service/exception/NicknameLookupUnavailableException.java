@@ -0,0 +1,9 @@
+package com.mk.user_service.exception;
+
+/** 닉네임 일괄 조회 시간 초과·DB 실패 — GlobalExceptionHandler가 503으로 응답 */
+public class NicknameLookupUnavailableException extends RuntimeException {
+
+    public NicknameLookupUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
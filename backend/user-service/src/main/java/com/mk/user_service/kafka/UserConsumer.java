@@ -3,6 +3,7 @@ package com.mk.user_service.kafka;
 import com.mk.user_service.dto.UserCreatedEvent;
 import com.mk.user_service.entity.User;
 import com.mk.user_service.repository.UserRepository;
+import com.mk.user_service.service.NicknameBatchLoader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -15,6 +16,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserConsumer {
 
     private final UserRepository userRepository;
+    private final UserNicknamePublisher nicknamePublisher;
+    private final NicknameBatchLoader nicknameBatchLoader;
 
     @Transactional
     @KafkaListener(topics = "user-created-topic", groupId = "user-service-group")
@@ -37,6 +40,8 @@ public class UserConsumer {
                     .build();
             
             userRepository.save(user);
+            nicknameBatchLoader.evict(user.getId());
+            nicknamePublisher.publish(user.getId(), user.getNickname());
             log.info("User-Service DB - Successfully saved user profile: {}", event.getId());
         } catch (Exception e) {
             log.error("Error saving user profile to User-Service DB: {}", e.getMessage());
@@ -0,0 +1,42 @@
+package com.mk.user_service.kafka;
+
+import com.mk.user_service.config.KafkaProducerConfig;
+import com.mk.user_service.dto.UserNicknameEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 닉네임 생성/변경 이벤트 발행. 트랜잭션 안에서 호출되면 커밋 후에 발행하여
+ * 롤백된 닉네임이 복제본에 퍼지지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserNicknamePublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    public void publish(String userId, String nickname) {
+        Runnable send = () -> {
+            try {
+                kafkaTemplate.send(KafkaProducerConfig.TOPIC_USER_NICKNAME, userId, new UserNicknameEvent(userId, nickname));
+            } catch (Exception e) {
+                log.error("닉네임 이벤트 발행 실패 (userId={}): {}", userId, e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send.run();
+            }
+        });
+    }
+}
@@ -1,7 +1,13 @@
 package com.mk.user_service.repository;
 
 import com.mk.user_service.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, String> {
@@ -9,4 +15,12 @@ public interface UserRepository extends JpaRepository<User, String> {
     Boolean existsByUsername(String username);
     Boolean existsByNickname(String nickname);
     Boolean existsByEmail(String email);
+
+    /** 닉네임 일괄 조회 — [id, nickname] (NicknameBatchLoader가 고정 크기 청크로 호출) */
+    @Query("SELECT u.id, u.nickname FROM User u WHERE u.id IN :ids")
+    List<Object[]> findNicknamesByIdIn(@Param("ids") Collection<String> ids);
+
+    /** 닉네임 스냅샷용 id 순 키셋 페이지 — [id, nickname] */
+    @Query("SELECT u.id, u.nickname FROM User u WHERE u.id > :after ORDER BY u.id ASC")
+    List<Object[]> findNicknamesAfter(@Param("after") String after, Pageable pageable);
 }
\ No newline at end of file
@@ -8,42 +8,51 @@ import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Instant;
+import java.util.Date;
 
+/**
+ * JWT 검증 전용 (발급은 auth-service).
+ * 요청마다 키·파서를 새로 만들지 않도록 생성자에서 한 번 만든 JwtParser(스레드 안전)를 재사용합니다.
+ * parse()는 한 번의 검증으로 userId·role·만료를 담은 불변 레코드를 돌려줍니다.
+ */
 @Slf4j
 @Service
 public class TokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final JwtParser jwtParser;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    public TokenProvider(@Value("${jwt.secret}") String secretKey) {
+        Key signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
     }
 
-    public String validateAndGetUserId(String token) {
+    /** 검증된 토큰 클레임 (exp 없으면 expiresAt null) */
+    public record TokenClaims(String userId, String role, Instant expiresAt) {
+    }
+
+    public TokenClaims parse(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.getSubject();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            return new TokenClaims(
+                    claims.getSubject(),
+                    claims.get("roles", String.class),
+                    expiration != null ? expiration.toInstant() : null
+            );
         } catch (JwtException e) {
             log.warn("JWT validation failed: {}", e.getMessage());
             return null;
         }
     }
 
+    public String validateAndGetUserId(String token) {
+        TokenClaims claims = parse(token);
+        return claims != null ? claims.userId() : null;
+    }
+
     public String getRoleFromToken(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.get("roles", String.class);
-        } catch (JwtException e) {
-            return null;
-        }
+        TokenClaims claims = parse(token);
+        return claims != null ? claims.role() : null;
     }
 }
\ No newline at end of file
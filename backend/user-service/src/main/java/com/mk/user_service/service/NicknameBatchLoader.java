@@ -0,0 +1,209 @@
+package com.mk.user_service.service;
+
+import com.mk.user_service.exception.NicknameLookupUnavailableException;
+import com.mk.user_service.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 닉네임 일괄 조회 (POST /user/api/users/nicknames).
+ * - 캐시: 크기·TTL 제한 로컬 캐시. 없는 ID도 짧게 음수 캐싱합니다.
+ * - 병합: 캐시 미스 ID는 대기열에 넣고, 빈 대기열에 첫 ID가 들어올 때만 user.nickname-batch.window-ms(기본 5ms)
+ *   뒤 drain을 예약해 그동안 쌓인 ID를 한 번에 조회합니다(유휴 시에는 깨어나지 않음).
+ *   이미 조회 중인 ID는 같은 future를 공유하므로 동시 요청이 같은 ID로 DB를 중복 조회하지 않습니다.
+ * - 청크: IN 절은 CHUNK_SIZE 고정 크기로 나누고 마지막 청크는 마지막 ID로 채워, SQL 문장이 하나로 유지되어
+ *   statement/plan 캐시가 재사용되도록 합니다. 청크 쿼리는 user.nickname-batch.query-threads(기본 4) 크기의
+ *   풀에서 병렬로 실행하므로, 큰 요청 하나가 다른 요청의 청크를 뒤에 줄 세우지 않습니다.
+ * - 시간 초과·조회 실패는 NicknameLookupUnavailableException(503)으로 알려, 호출 측이 빈 결과를
+ *   "없는 ID"로 음수 캐싱하지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class NicknameBatchLoader {
+
+    static final int CHUNK_SIZE = 100;
+
+    private record CachedNickname(String nickname, long expiresAt) {
+    }
+
+    private final UserRepository userRepository;
+    private final ConcurrentHashMap<String, CachedNickname> cache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService queryExecutor;
+    private final long windowMillis;
+
+    @Value("${user.nickname-batch.ttl-ms:300000}")
+    private long ttlMillis;
+
+    @Value("${user.nickname-batch.negative-ttl-ms:30000}")
+    private long negativeTtlMillis;
+
+    @Value("${user.nickname-batch.cache-max-size:50000}")
+    private int maxSize;
+
+    @Value("${user.nickname-batch.timeout-ms:3000}")
+    private long timeoutMillis;
+
+    public NicknameBatchLoader(UserRepository userRepository,
+                               @Value("${user.nickname-batch.window-ms:5}") long windowMillis,
+                               @Value("${user.nickname-batch.query-threads:4}") int queryThreads) {
+        this.userRepository = userRepository;
+        this.windowMillis = windowMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemon("nickname-batch"));
+        this.queryExecutor = Executors.newFixedThreadPool(Math.max(1, queryThreads), daemon("nickname-batch-query"));
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /** ID → 닉네임 (없는 ID는 제외) */
+    public Map<String, String> load(Collection<String> userIds) {
+        long now = System.currentTimeMillis();
+        Map<String, String> result = new LinkedHashMap<>();
+        Map<String, CompletableFuture<String>> waiting = new HashMap<>();
+        for (String id : new LinkedHashSet<>(userIds)) {
+            if (id == null) continue;
+            CachedNickname cached = cache.get(id);
+            if (cached != null && cached.expiresAt() > now) {
+                if (cached.nickname() != null) result.put(id, cached.nickname());
+                continue;
+            }
+            waiting.put(id, inFlight.computeIfAbsent(id, key -> {
+                queue.add(key);
+                return new CompletableFuture<>();
+            }));
+        }
+        if (waiting.isEmpty()) return result;
+        scheduleDrain();
+
+        try {
+            CompletableFuture.allOf(waiting.values().toArray(CompletableFuture[]::new))
+                    .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NicknameLookupUnavailableException("닉네임 조회가 중단되었습니다.", e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("닉네임 조회 실패 ({}건): {}", waiting.size(), e.toString());
+            throw new NicknameLookupUnavailableException("닉네임 조회 실패", e);
+        }
+        waiting.forEach((id, future) -> {
+            String nickname = future.join();
+            if (nickname != null) result.put(id, nickname);
+        });
+        return result;
+    }
+
+    /**
+     * 닉네임 생성/변경 시 캐시 무효화. 트랜잭션 안에서 호출되면 커밋 후에 지워,
+     * 커밋 전 동시 조회가 이전 값을 다시 캐시에 넣는 일을 막습니다.
+     */
+    public void evict(String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.remove(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.remove(userId);
+            }
+        });
+    }
+
+    /** 예약된 drain이 없을 때만 windowMillis 뒤로 예약 */
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::drain, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 대기열의 ID를 고정 크기 청크로 나눠 조회 풀에 넘김.
+     * 플래그를 먼저 내려서, 비운 뒤에 들어온 ID는 그 호출자가 다음 drain을 예약하게 합니다.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        List<String> ids = new ArrayList<>();
+        for (String id; (id = queue.poll()) != null; ) {
+            ids.add(id);
+        }
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            try {
+                queryExecutor.execute(() -> loadChunk(chunk));
+            } catch (RejectedExecutionException e) {
+                for (String id : chunk) complete(id, null, e);
+            }
+        }
+    }
+
+    /** 청크 하나를 조회해 캐시를 채우고 대기 중인 future를 완료 */
+    private void loadChunk(List<String> chunk) {
+        try {
+            Map<String, String> found = new HashMap<>();
+            for (Object[] row : userRepository.findNicknamesByIdIn(padded(chunk))) {
+                found.put((String) row[0], (String) row[1]);
+            }
+            long now = System.currentTimeMillis();
+            for (String id : chunk) {
+                String nickname = found.get(id);
+                cache.put(id, new CachedNickname(nickname, now + (nickname != null ? ttlMillis : negativeTtlMillis)));
+                complete(id, nickname, null);
+            }
+            evictIfFull(now);
+        } catch (Exception e) {
+            log.error("닉네임 배치 조회 실패 ({}건): {}", chunk.size(), e.getMessage());
+            for (String id : chunk) complete(id, null, e);
+        }
+    }
+
+    private void complete(String id, String nickname, Exception error) {
+        CompletableFuture<String> future = inFlight.remove(id);
+        if (future == null) return;
+        if (error != null) future.completeExceptionally(error);
+        else future.complete(nickname);
+    }
+
+    /** 마지막 청크를 CHUNK_SIZE까지 마지막 ID로 채움 (IN 절 파라미터 수 고정) */
+    private static List<String> padded(List<String> chunk) {
+        if (chunk.size() == CHUNK_SIZE) return chunk;
+        List<String> padded = new ArrayList<>(CHUNK_SIZE);
+        padded.addAll(chunk);
+        String last = chunk.get(chunk.size() - 1);
+        while (padded.size() < CHUNK_SIZE) padded.add(last);
+        return padded;
+    }
+
+    /** 최대 크기 초과 시 만료 항목부터, 그래도 넘치면 임의 항목을 제거 */
+    private void evictIfFull(long now) {
+        if (cache.size() <= maxSize) return;
+        cache.entrySet().removeIf(e -> e.getValue().expiresAt() <= now);
+        Iterator<String> it = cache.keySet().iterator();
+        while (cache.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        queryExecutor.shutdownNow();
+    }
+}
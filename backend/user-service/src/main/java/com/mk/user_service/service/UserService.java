@@ -1,20 +1,27 @@
 package com.mk.user_service.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mk.user_service.dto.NicknameSnapshotResponse;
 import com.mk.user_service.entity.User;
 import com.mk.user_service.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final NicknameBatchLoader nicknameBatchLoader;
+    private final ObjectMapper objectMapper;
 
     // 1.12 추가
     @Transactional(readOnly = true)
@@ -33,10 +40,36 @@ public class UserService {
         return userRepository.existsByNickname(nickname);
     }
 
-    @Transactional(readOnly = true)
+    /** 닉네임 일괄 조회 — 캐시·요청 병합·고정 크기 IN 청크는 NicknameBatchLoader가 처리 */
     public Map<String, String> getNicknamesByIds(List<String> userIds) {
-        List<User> users = userRepository.findAllById(userIds);
-        return users.stream()
-                .collect(Collectors.toMap(User::getId, User::getNickname));
+        return nicknameBatchLoader.load(userIds);
+    }
+
+    /**
+     * 대량 ID용 스트리밍 조회 — 청크 단위로 조회하며 한 줄에 하나씩 {"id":..,"nickname":..} (JSON Lines)을 바로 씁니다.
+     * 전체 결과를 메모리에 모으지 않으며, 없는 ID는 건너뜁니다.
+     */
+    public void writeNicknames(List<String> userIds, OutputStream out) throws IOException {
+        int step = NicknameBatchLoader.CHUNK_SIZE * 5;
+        for (int from = 0; from < userIds.size(); from += step) {
+            Map<String, String> chunk = nicknameBatchLoader.load(userIds.subList(from, Math.min(from + step, userIds.size())));
+            for (Map.Entry<String, String> e : chunk.entrySet()) {
+                out.write(objectMapper.writeValueAsBytes(Map.of("id", e.getKey(), "nickname", e.getValue())));
+                out.write('\n');
+            }
+            out.flush();
+        }
+    }
+
+    /** 닉네임 복제본 부트스트랩용 스냅샷 (id 순 키셋 페이지) */
+    @Transactional(readOnly = true)
+    public NicknameSnapshotResponse getNicknameSnapshot(String after, int size) {
+        List<Object[]> rows = userRepository.findNicknamesAfter(after == null ? "" : after, PageRequest.of(0, size));
+        Map<String, String> nicknames = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            nicknames.put((String) row[0], (String) row[1]);
+        }
+        String next = rows.size() < size ? null : (String) rows.get(rows.size() - 1)[0];
+        return new NicknameSnapshotResponse(nicknames, next);
     }
 }
\ No newline at end of file
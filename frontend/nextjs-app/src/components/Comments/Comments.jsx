@@ -191,7 +191,9 @@ const CommentItem = ({ comment, currentUserId, onDelete, onUpdate }) => {
 // --- 메인 컴포넌트: Comments --
 export default function Comments({ postId }) {
   const [comments, setComments] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const { id: currentUserId } = useAuth();
   const { showToast } = useToast();
 
@@ -199,7 +201,8 @@ export default function Comments({ postId }) {
     setLoading(true);
     try {
       const data = await fetchCommentsByPostId(postId);
-      setComments(data);
+      setComments(data.content ?? []);
+      setNextCursor(data.nextCursor ?? null);
     } catch (error) {
       // 🌟 UI 텍스트 한국어 우선: 댓글을 불러오는 데 실패했습니다.
       showToast({ message: "Failed to load comments.", type: "error" });
@@ -208,6 +211,24 @@ export default function Comments({ postId }) {
     }
   };
 
+  // 다음 커서 페이지를 이어 붙임
+  const loadMoreComments = async () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+    try {
+      const data = await fetchCommentsByPostId(postId, nextCursor);
+      setComments((prev) => {
+        const seen = new Set(prev.map((c) => c.id));
+        return [...prev, ...(data.content ?? []).filter((c) => !seen.has(c.id))];
+      });
+      setNextCursor(data.nextCursor ?? null);
+    } catch (error) {
+      showToast({ message: "Failed to load comments.", type: "error" });
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   useEffect(() => {
     loadComments();
   }, [postId]);
@@ -244,7 +265,7 @@ export default function Comments({ postId }) {
   return (
     <div className="comments-section">
       {/* 🌟 UI 텍스트 한국어 우선: 댓글 ({comments.length}) */}
-      <h2 className="section-title">Comments ({comments.length})</h2>
+      <h2 className="section-title">Comments ({comments.length}{nextCursor ? "+" : ""})</h2>
 
       {currentUserId ? (
         <CommentForm postId={postId} onCommentCreated={handleCommentCreated} />
@@ -274,6 +295,17 @@ export default function Comments({ postId }) {
             // 🌟 UI 텍스트 한국어 우선: 아직 댓글이 없습니다.
             <p className="no-comments">No comments yet. Be the first to comment!</p>
         )}
+        {!loading && nextCursor && (
+          <button
+            type="button"
+            className="btn-link-primary"
+            onClick={loadMoreComments}
+            disabled={loadingMore}
+            style={{ display: "block", margin: "16px auto" }}
+          >
+            {loadingMore ? "Loading..." : "Load more comments"}
+          </button>
+        )}
       </div>
     </div>
   );
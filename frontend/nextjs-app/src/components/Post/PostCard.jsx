@@ -14,7 +14,8 @@ const formatDate = (dateString) => {
 
 // --- 서브 컴포넌트: 포스트 목록 카드 (Homepage용) --
 export default function PostCard({ post, showViewCount = false }) {
-    const content = post.content || "";
+    // 목록 API는 본문 대신 excerpt(앞 200자)만 내려줌
+    const content = post.excerpt || post.content || "";
     return (
         <Link href={`/post/${post.id}`} className="post-card">
             <h3>{post.title || "제목 없음"}</h3>
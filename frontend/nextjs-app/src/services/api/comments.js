@@ -16,16 +16,19 @@ const authAxios = axios.create({
 // --- 댓글 조회 (인증 불필요) ---
 
 /**
- * 특정 게시글의 댓글 목록 조회 (GET /api/posts/{postId}/comments)
+ * 특정 게시글의 댓글 목록 커서 조회 (GET /api/posts/{postId}/comments?after=&size=)
  * @param {number} postId - 게시글 ID
+ * @param {string} [after] - 이전 응답의 nextCursor (첫 페이지는 빈 값)
+ * @param {number} [size] - 페이지 크기 (최대 100)
  */
-export const fetchCommentsByPostId = async (postId) => {
+export const fetchCommentsByPostId = async (postId, after = "", size = 20) => {
   try {
-    // 컨트롤러의 경로: /api/posts/{postId}/comments
+    // 컨트롤러의 경로: /api/posts/{postId}/comments — after 파라미터가 있으면 커서 모드
     const response = await axios.get(
-      `${COMMENTS_BASE_API_URL}/${postId}/comments`
+      `${COMMENTS_BASE_API_URL}/${postId}/comments`,
+      { params: { after: after ?? "", size } }
     );
-    return response.data; // List<CommentResponse>
+    return response.data; // { content: CommentResponse[], nextCursor: string | null, size }
   } catch (error) {
     console.error(`Error fetching comments for post ${postId}:`, error);
     throw error;